@@ -61,7 +61,7 @@ public interface AuthController {
 	@ApiResponse(responseCode = "201", description = "Successful registration",
 			content = @Content(schema = @Schema(implementation = UserDto.class)))
 	@PostMapping("/register")
-	ResponseEntity<UserDto> register(@RequestBody RegisterForm registerForm) throws UserResourceException;
+	ResponseEntity<UserDto> register(@Valid @RequestBody RegisterForm registerForm) throws UserResourceException;
 
 	/**
 	 * Refreshes the authentication token using the refresh token from the request cookies.
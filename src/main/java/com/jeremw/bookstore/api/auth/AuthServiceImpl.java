@@ -64,7 +64,8 @@ public class AuthServiceImpl implements AuthService {
 			throw new AuthResourceException("BadCredential", "Bad Credential", HttpStatus.UNAUTHORIZED);
 		}
 		catch (Exception e) {
-			throw new AuthResourceException("LoginError", "Error while user login.", HttpStatus.INTERNAL_SERVER_ERROR);
+			throw new AuthResourceException("LoginError", "Error while user login.", HttpStatus.INTERNAL_SERVER_ERROR,
+					e);
 		}
 
 		user = userService.findUserByUsername(((User) (authentication.getPrincipal())).getUsername());
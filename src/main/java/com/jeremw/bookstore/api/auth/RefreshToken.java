@@ -54,7 +54,7 @@ public class RefreshToken {
 	/**
 	 * The unique token value of the refresh token.
 	 */
-	@Column(nullable = false, unique = true, updatable = false)
+	@Column(nullable = false, unique = true, updatable = false, length = 64)
 	private String token;
 
 	/**
@@ -18,6 +18,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.WebUtils;
 
 /**
@@ -30,6 +31,7 @@ import org.springframework.web.util.WebUtils;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class RefreshTokenServiceImpl implements RefreshTokenService {
 
 	private final RefreshTokenRepository refreshTokenRepository;
@@ -54,6 +56,7 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 	 * @return The created refresh token.
 	 */
 	@Override
+	@Transactional
 	public RefreshToken createRefreshToken(User user) {
 		log.info("Creating refresh token for user: {}", user.getUsername());
 		RefreshToken refreshToken = RefreshToken.builder()
@@ -66,11 +69,13 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 	}
 
 	/**
-	 * Verifies if the given refresh token has expired.
+	 * Verifies if the given refresh token has expired. An expired token is deleted, and the
+	 * deletion is committed even though the exception is thrown.
 	 *
 	 * @param token The refresh token to verify.
 	 * @throws RefreshTokenResourceException If the token is null or has expired.
 	 */
+	@Transactional(noRollbackFor = RefreshTokenResourceException.class)
 	public void verifyExpiration(RefreshToken token) throws RefreshTokenResourceException {
 		if (token == null) {
 			log.error("Token is null");
@@ -110,6 +115,7 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 	 * @throws UserResourceException         If the user associated with the refresh token is not
 	 *                                       found.
 	 */
+	@Transactional(noRollbackFor = RefreshTokenResourceException.class)
 	public AuthDto generateNewToken(String refreshTokenString)
 			throws RefreshTokenResourceException, UserResourceException {
 		RefreshToken refreshToken = findByToken(refreshTokenString);
@@ -169,6 +175,7 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 	 * @throws RefreshTokenResourceException If the refresh token is not found.
 	 */
 	@Override
+	@Transactional(rollbackFor = RefreshTokenResourceException.class)
 	public void deleteByToken(String token) throws RefreshTokenResourceException {
 		log.info("Deleting refresh token by token: {}", token);
 		refreshTokenRepository.delete(findByToken(token));
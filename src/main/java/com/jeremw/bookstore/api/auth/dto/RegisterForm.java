@@ -35,6 +35,7 @@ public class RegisterForm {
 	 */
 	@NotBlank(message = "Email cannot be blank")
 	@Email(regexp = "[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,3}", message = "Invalid email format")
+	@Size(max = 255, message = "Email must not exceed 255 characters")
 	@Schema(description = "The email address for user registration")
 	private String email;
 
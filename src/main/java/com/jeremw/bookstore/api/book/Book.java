@@ -1,21 +1,38 @@
 package com.jeremw.bookstore.api.book;
 
+import com.jeremw.bookstore.api.config.shard.ShardAwareId;
 import com.jeremw.bookstore.api.user.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 
 /**
+ * Entity class representing a book of a user.
+ *
+ * <p>
+ * Each insert and update of a book allocates a new change sequence, read by the delta
+ * sync of the library.
+ * </p>
+ *
+ * <p>
+ * A deleted book is only flagged, and filtered out of every query; it is removed later by
+ * the purger.
+ * </p>
+ *
  * @author Jérémy Woirhaye
  * @version 1.0
  * @since 11/05/2024
@@ -26,16 +43,19 @@ import org.hibernate.annotations.DynamicUpdate;
 @NoArgsConstructor
 @AllArgsConstructor
 @DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
+@SQLDelete(sql = "update book set deleted = true where id = ?")
+@SQLRestriction("deleted = false")
 public class Book {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@ShardAwareId(sequenceName = "book_seq")
 	private Long id;
 
 	@Column(nullable = false, updatable = false)
 	private String title;
 
-	@Column(nullable = false)
+	@Column(nullable = false, length = 2000)
 	private String description;
 
 	@Column(nullable = false)
@@ -44,4 +64,16 @@ public class Book {
 	@ManyToOne(fetch = FetchType.LAZY)
 	private User user;
 
+	@Column(nullable = false)
+	private long changeSeq;
+
+	@Column(nullable = false)
+	private boolean deleted;
+
+	@PrePersist
+	@PreUpdate
+	void allocateChangeSeq() {
+		changeSeq = BookChangeSequence.next();
+	}
+
 }
@@ -0,0 +1,29 @@
+package com.jeremw.bookstore.api.book;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The books of a user read by their IDs.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@Builder
+public class BookBatch {
+
+	/**
+	 * The books found, in the order of the requested IDs.
+	 */
+	private List<Book> books;
+
+	/**
+	 * The requested IDs matching no book of the user, in the order of the request.
+	 */
+	private List<Long> missingIds;
+
+}
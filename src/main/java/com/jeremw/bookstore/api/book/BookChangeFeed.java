@@ -0,0 +1,316 @@
+package com.jeremw.bookstore.api.book;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.jeremw.bookstore.api.book.dto.BookChangeDto;
+import com.jeremw.bookstore.api.config.outbox.OutboxEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the book changes to the users following their library as Server-Sent Events.
+ *
+ * <p>
+ * The changes are received from the outbox relay, never from the write path. They are
+ * numbered, kept in a bounded history for the clients resuming after a disconnection and
+ * fanned out by a single dispatcher thread, which owns the sequence and the history. The
+ * connections are asynchronous requests, an idle subscriber holds no thread.
+ * </p>
+ *
+ * <p>
+ * The dispatcher never writes to a connection. It queues the events of each subscriber in
+ * a bounded queue, drained by a small pool of sender threads, so a slow client only
+ * delays its own events. A subscriber whose queue is full is closed; the client then
+ * reconnects and resumes from its last event.
+ * </p>
+ *
+ * <p>
+ * An event ID is made of the start time of the feed and the sequence of the change. A
+ * client resuming from an ID of a previous run, or older than the history, receives a
+ * {@value #RESET_EVENT} event and must reload the library.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Slf4j
+@Component
+public class BookChangeFeed {
+
+	/**
+	 * The name of the event telling a client to reload the library.
+	 */
+	public static final String RESET_EVENT = "reset";
+
+	private static final String AGGREGATE_TYPE = "Book";
+
+	private final long epoch = System.currentTimeMillis();
+
+	private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(
+			runnable -> new Thread(runnable, "book-change-feed"));
+
+	private final ExecutorService senders;
+
+	private final Change[] history;
+
+	private final int sendQueueSize;
+
+	private long sequence;
+
+	@Value("${book-changes.timeout:PT30M}")
+	private Duration timeout;
+
+	public BookChangeFeed(@Value("${book-changes.history-size:10000}") int historySize,
+			@Value("${book-changes.send-queue-size:256}") int sendQueueSize,
+			@Value("${book-changes.sender-threads:4}") int senderThreads) {
+		this.history = new Change[historySize];
+		this.sendQueueSize = sendQueueSize;
+		AtomicInteger senderCount = new AtomicInteger();
+		this.senders = Executors.newFixedThreadPool(senderThreads,
+				runnable -> new Thread(runnable, "book-change-sender-" + senderCount.incrementAndGet()));
+	}
+
+	/**
+	 * Subscribes to the book changes of a user.
+	 *
+	 * @param userId      The ID of the user.
+	 * @param lastEventId The ID of the last event received by the client, to resume from.
+	 * @return The emitter of the events, completed after the configured timeout.
+	 */
+	public SseEmitter subscribe(Long userId, String lastEventId) {
+		return subscribe(userId, lastEventId, new SseEmitter(timeout.toMillis()));
+	}
+
+	SseEmitter subscribe(Long userId, String lastEventId, SseEmitter emitter) {
+		Subscriber subscriber = new Subscriber(userId, emitter);
+		emitter.onCompletion(subscriber::detach);
+		emitter.onTimeout(subscriber::detach);
+		emitter.onError(e -> subscriber.detach());
+
+		dispatcher.execute(() -> {
+			replay(subscriber, lastEventId);
+			subscribers.compute(userId, (id, userSubscribers) -> {
+				Set<Subscriber> current = userSubscribers == null ? ConcurrentHashMap.newKeySet() : userSubscribers;
+				if (!subscriber.closed) {
+					current.add(subscriber);
+				}
+				return current.isEmpty() ? null : current;
+			});
+		});
+		return emitter;
+	}
+
+	/**
+	 * Receives the changes relayed from the outbox.
+	 *
+	 * @param event The relayed change.
+	 */
+	@EventListener
+	public void onOutboxEvent(OutboxEvent event) {
+		if (!AGGREGATE_TYPE.equals(event.getAggregateType()) || event.getUserId() == null) {
+			return;
+		}
+
+		BookChangeDto bookChange = BookChangeDto.builder()
+				.type(event.getType().name())
+				.bookId(event.getAggregateId())
+				.build();
+		dispatcher.execute(() -> {
+			Change change = new Change(++sequence, event.getUserId(), bookChange);
+			history[(int) (change.sequence() % history.length)] = change;
+
+			Set<Subscriber> userSubscribers = subscribers.get(change.userId());
+			if (userSubscribers != null) {
+				userSubscribers.forEach(subscriber -> subscriber.enqueue(event(change)));
+			}
+		});
+	}
+
+	/**
+	 * Sends a comment to every subscriber, so the idle connections are not closed by the
+	 * proxies.
+	 */
+	@Scheduled(fixedDelayString = "${book-changes.heartbeat-interval:PT30S}")
+	public void heartbeat() {
+		dispatcher.execute(() -> subscribers.values().forEach(userSubscribers -> userSubscribers
+				.forEach(subscriber -> subscriber.enqueue(SseEmitter.event().comment("heartbeat")))));
+	}
+
+	/**
+	 * Returns the number of connected subscribers.
+	 *
+	 * @return The number of subscribers.
+	 */
+	public int getSubscriberCount() {
+		return subscribers.values().stream().mapToInt(Set::size).sum();
+	}
+
+	@PreDestroy
+	public void close() {
+		dispatcher.shutdownNow();
+		senders.shutdownNow();
+		subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+			subscriber.detach();
+			subscriber.emitter.complete();
+		}));
+		subscribers.clear();
+	}
+
+	private void replay(Subscriber subscriber, String lastEventId) {
+		if (lastEventId == null || lastEventId.isBlank()) {
+			return;
+		}
+
+		long lastSequence = parseSequence(lastEventId);
+		if (lastSequence >= 0 && lastSequence <= sequence && sequence - lastSequence <= history.length) {
+			List<Change> missed = new ArrayList<>();
+			for (long next = lastSequence + 1; next <= sequence; next++) {
+				Change change = history[(int) (next % history.length)];
+				if (change.userId().equals(subscriber.userId)) {
+					missed.add(change);
+				}
+			}
+			if (missed.size() <= sendQueueSize) {
+				missed.forEach(change -> subscriber.enqueue(event(change)));
+				return;
+			}
+		}
+
+		log.info("Resetting the change feed of user {} from event {}", subscriber.userId, lastEventId);
+		subscriber.enqueue(SseEmitter.event().id(eventId(sequence)).name(RESET_EVENT).data(""));
+	}
+
+	private SseEmitter.SseEventBuilder event(Change change) {
+		return SseEmitter.event()
+				.id(eventId(change.sequence()))
+				.name(change.bookChange().getType().toLowerCase(Locale.ROOT))
+				.data(change.bookChange(), MediaType.APPLICATION_JSON);
+	}
+
+	private void unsubscribe(Subscriber subscriber) {
+		subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+			userSubscribers.remove(subscriber);
+			return userSubscribers.isEmpty() ? null : userSubscribers;
+		});
+	}
+
+	private String eventId(long eventSequence) {
+		return epoch + "-" + eventSequence;
+	}
+
+	private long parseSequence(String eventId) {
+		int separator = eventId.indexOf('-');
+		try {
+			if (separator < 0 || Long.parseLong(eventId.substring(0, separator)) != epoch) {
+				return -1;
+			}
+			return Long.parseLong(eventId.substring(separator + 1));
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private record Change(long sequence, Long userId, BookChangeDto bookChange) {
+	}
+
+	/**
+	 * A connected client, with the events queued for it.
+	 *
+	 * <p>
+	 * At most one sender drains the queue of a subscriber at a time, so its events are sent
+	 * in order. The emitter is only completed by a sender, as completing it waits for the
+	 * send in progress.
+	 * </p>
+	 */
+	private final class Subscriber {
+
+		private final Long userId;
+
+		private final SseEmitter emitter;
+
+		private final Queue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(sendQueueSize);
+
+		private final AtomicBoolean draining = new AtomicBoolean();
+
+		private volatile boolean closed;
+
+		Subscriber(Long userId, SseEmitter emitter) {
+			this.userId = userId;
+			this.emitter = emitter;
+		}
+
+		/**
+		 * Queues an event without waiting, closing the subscriber when it lags.
+		 */
+		void enqueue(SseEmitter.SseEventBuilder event) {
+			if (closed) {
+				return;
+			}
+			if (!queue.offer(event)) {
+				log.info("Closing the change feed of user {}, {} events behind", userId, queue.size());
+				detach();
+			}
+			if (draining.compareAndSet(false, true)) {
+				senders.execute(this::drain);
+			}
+		}
+
+		/**
+		 * Stops sending to the subscriber, without completing the emitter.
+		 */
+		void detach() {
+			closed = true;
+			queue.clear();
+			unsubscribe(this);
+		}
+
+		private void drain() {
+			while (true) {
+				SseEmitter.SseEventBuilder event;
+				while (!closed && (event = queue.poll()) != null) {
+					try {
+						emitter.send(event);
+					}
+					catch (IOException | IllegalStateException e) {
+						detach();
+					}
+				}
+				if (closed) {
+					emitter.complete();
+					return;
+				}
+
+				draining.set(false);
+				if ((queue.isEmpty() && !closed) || !draining.compareAndSet(false, true)) {
+					return;
+				}
+			}
+		}
+
+	}
+
+}
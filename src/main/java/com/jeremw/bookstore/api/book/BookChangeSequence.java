@@ -0,0 +1,50 @@
+package com.jeremw.bookstore.api.book;
+
+import java.time.Duration;
+
+/**
+ * Allocates the change sequence of the books and of their tombstones.
+ *
+ * <p>
+ * A value holds the current time in milliseconds shifted by {@value #COUNTER_BITS} bits,
+ * plus a counter when several values are allocated within the same millisecond. The
+ * values are allocated by the application rather than by a database sequence, so they
+ * keep increasing when the books of a user are moved to another shard, and cost no
+ * database round trip. The application nodes must keep their clocks synchronized.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public final class BookChangeSequence {
+
+	private static final int COUNTER_BITS = 10;
+
+	private static long last;
+
+	private BookChangeSequence() {
+	}
+
+	/**
+	 * Allocates the sequence of a change.
+	 *
+	 * @return A value greater than every value previously allocated by this application.
+	 */
+	public static synchronized long next() {
+		last = Math.max(last + 1, System.currentTimeMillis() << COUNTER_BITS);
+		return last;
+	}
+
+	/**
+	 * Returns the sequence values allocated before a given time ago, which every write
+	 * transaction shorter than this duration has committed.
+	 *
+	 * @param settleWindow The maximum duration of a write transaction.
+	 * @return The greatest value allocated before the window.
+	 */
+	public static long settledBefore(Duration settleWindow) {
+		return (System.currentTimeMillis() - settleWindow.toMillis()) << COUNTER_BITS;
+	}
+
+}
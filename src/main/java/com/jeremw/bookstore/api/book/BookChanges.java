@@ -0,0 +1,34 @@
+package com.jeremw.bookstore.api.book;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The changes of the library of a user since a sync token.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@Builder
+public class BookChanges {
+
+	/**
+	 * The books created or updated since the token.
+	 */
+	private List<Book> books;
+
+	/**
+	 * The IDs of the books deleted since the token.
+	 */
+	private List<Long> deletedIds;
+
+	/**
+	 * The token to pass to the next sync.
+	 */
+	private long token;
+
+}
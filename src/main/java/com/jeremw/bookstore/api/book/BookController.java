@@ -2,19 +2,25 @@ package com.jeremw.bookstore.api.book;
 
 import java.util.List;
 
+import com.jeremw.bookstore.api.book.dto.BookBatchDto;
 import com.jeremw.bookstore.api.book.dto.BookDto;
+import com.jeremw.bookstore.api.book.dto.BookSyncDto;
 import com.jeremw.bookstore.api.book.dto.CreateBookForm;
 import com.jeremw.bookstore.api.book.dto.UpdateBookForm;
+import com.jeremw.bookstore.api.config.web.JsonStream;
 import com.jeremw.bookstore.api.exception.ResourceExceptionDTO;
 import com.jeremw.bookstore.api.user.UserResourceException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,8 +29,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * This interface defines REST endpoints for book management.
@@ -38,33 +48,104 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/users/{userId}/books")
 public interface BookController {
 
+	/**
+	 * The header carrying the number of books of the user.
+	 */
+	String TOTAL_COUNT_HEADER = "X-Total-Count";
+
 	/**
 	 * Retrieves all books associated with a specific user.
 	 *
 	 * @param userId The ID of the user
-	 * @return A ResponseEntity containing a list of books associated with the user
+	 * @param fields The comma separated names of the fields to return, absent for all the fields
+	 * @return A ResponseEntity containing the stream of the books associated with the user
 	 */
-	@Operation(summary = "Get all books", description = "Returns a list of all books.")
-	@ApiResponse(responseCode = "200", description = "Success")
+	@Operation(summary = "Get all books", description = "Returns a list of all books, with their number in the X-Total-Count header.")
+	@ApiResponse(responseCode = "200", description = "Success", content = @Content(array = @ArraySchema(schema = @Schema(implementation = BookDto.class))))
+	@ApiResponse(responseCode = "400", description = "Invalid field", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
 	@ApiResponse(responseCode = "403", description = "Access denied if the ID parameter in the request does not match the ID of the logged-in user.", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
 	@GetMapping
 	@PreAuthorize("authentication.principal.id == #userId")
-	ResponseEntity<List<BookDto>> getBooks(@PathVariable Long userId);
+	ResponseEntity<JsonStream<BookDto>> getBooks(@PathVariable Long userId,
+			@RequestParam(required = false) @Parameter(description = "Fields to return, such as id,title,author") String fields) throws BookResourceException;
+
+	/**
+	 * Retrieves books of a user by their IDs.
+	 *
+	 * @param userId The ID of the user
+	 * @param ids    The IDs of the books
+	 * @return A ResponseEntity containing the books found, in the order of the IDs, and the missing IDs
+	 */
+	@Operation(summary = "Get books by IDs", description = "Returns the books of the given IDs in the order of the IDs, with the IDs matching no book of the user.")
+	@ApiResponse(responseCode = "200", description = "Success")
+	@ApiResponse(responseCode = "400", description = "Too many IDs", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@ApiResponse(responseCode = "403", description = "Access denied if the ID parameter in the request does not match the ID of the logged-in user.", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@GetMapping(params = "ids")
+	@PreAuthorize("authentication.principal.id == #userId")
+	ResponseEntity<BookBatchDto> getBooksByIds(@PathVariable Long userId,
+			@RequestParam @Parameter(description = "IDs of the books, such as 1,2,3") List<Long> ids) throws BookResourceException;
+
+	/**
+	 * Retrieves the number of books of a user, without the books.
+	 *
+	 * @param userId The ID of the user
+	 * @return A ResponseEntity carrying the number of books in the X-Total-Count header
+	 */
+	@Operation(summary = "Count books", description = "Returns the number of books in the X-Total-Count header, without reading the books.")
+	@ApiResponse(responseCode = "200", description = "Success")
+	@ApiResponse(responseCode = "403", description = "Access denied if the ID parameter in the request does not match the ID of the logged-in user.", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@RequestMapping(method = RequestMethod.HEAD)
+	@PreAuthorize("authentication.principal.id == #userId")
+	ResponseEntity<Void> countBooks(@PathVariable Long userId) throws UserResourceException;
+
+	/**
+	 * Retrieves the books of a user changed since a sync token.
+	 *
+	 * @param userId The ID of the user
+	 * @param since  The token returned by the previous sync, absent for a full sync
+	 * @return A ResponseEntity containing the changed books, the deleted book IDs and the next token
+	 */
+	@Operation(summary = "Sync books", description = "Returns the books created or updated and the IDs of the books deleted since the token, with the token of the next sync. Without a token, returns all the books.")
+	@ApiResponse(responseCode = "200", description = "Success")
+	@ApiResponse(responseCode = "400", description = "Invalid token", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@ApiResponse(responseCode = "403", description = "Access denied if the ID parameter in the request does not match the ID of the logged-in user.", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@GetMapping("/sync")
+	@PreAuthorize("authentication.principal.id == #userId")
+	ResponseEntity<BookSyncDto> syncBooks(@PathVariable Long userId,
+			@RequestParam(required = false) String since) throws BookResourceException;
+
+	/**
+	 * Streams the changes of the books of a user as Server-Sent Events.
+	 *
+	 * @param userId      The ID of the user
+	 * @param lastEventId The ID of the last event received, to resume the stream from
+	 * @return The emitter of the {@code created}, {@code updated} and {@code deleted} events
+	 */
+	@Operation(summary = "Stream book changes", description = "Streams the created, updated and deleted books as Server-Sent Events, resuming after the Last-Event-ID header. A reset event asks the client to reload the books.")
+	@ApiResponse(responseCode = "200", description = "Success")
+	@ApiResponse(responseCode = "403", description = "Access denied if the ID parameter in the request does not match the ID of the logged-in user.", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@PreAuthorize("authentication.principal.id == #userId")
+	SseEmitter getBookChanges(@PathVariable Long userId,
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId);
 
 	/**
 	 * Retrieves a specific book associated with a user by its ID.
 	 *
 	 * @param userId The ID of the user
 	 * @param bookId The ID of the book
+	 * @param fields The comma separated names of the fields to return, absent for all the fields
 	 * @return A ResponseEntity containing the book associated with the user
 	 */
 	@Operation(summary = "Get book by ID", description = "Returns an book based on the provided ID.")
 	@ApiResponse(responseCode = "200", description = "Success")
+	@ApiResponse(responseCode = "400", description = "Invalid field", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
 	@ApiResponse(responseCode = "404", description = "Book not found", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
 	@ApiResponse(responseCode = "403", description = "Access denied if the ID parameter in the request does not match the ID of the logged-in user.", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
 	@GetMapping("/{bookId}")
 	@PreAuthorize("authentication.principal.id  == #userId")
-	ResponseEntity<BookDto> getBookById(@PathVariable Long userId, @PathVariable Long bookId) throws BookResourceException;
+	ResponseEntity<BookDto> getBookById(@PathVariable Long userId, @PathVariable Long bookId,
+			@RequestParam(required = false) @Parameter(description = "Fields to return, such as id,title,author") String fields) throws BookResourceException;
 
 	/**
 	 * Creates a new book for a user.
@@ -74,9 +155,12 @@ public interface BookController {
 	 * @return A ResponseEntity containing the created book
 	 */
 	@Operation(summary = "Create a new book", description = "Creates a new book.")
+	@Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, description = "Key of the request, a retry with the same key and body gets the first response again")
 	@ApiResponse(responseCode = "201", description = "Book created successfully")
 	@ApiResponse(responseCode = "400", description = "Invalid input", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
 	@ApiResponse(responseCode = "403", description = "Access denied if the ID parameter in the request does not match the ID of the logged-in user.", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@ApiResponse(responseCode = "409", description = "A request with the same idempotency key is still in progress", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@ApiResponse(responseCode = "422", description = "The idempotency key was used with another request", content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
 	@PostMapping
 	@PreAuthorize("authentication.principal.id == #userId")
 	ResponseEntity<BookDto> createBook(@PathVariable("userId") Long userId,
@@ -1,12 +1,17 @@
 package com.jeremw.bookstore.api.book;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
+import com.jeremw.bookstore.api.book.dto.BookBatchDto;
 import com.jeremw.bookstore.api.book.dto.BookDto;
+import com.jeremw.bookstore.api.book.dto.BookSyncDto;
 import com.jeremw.bookstore.api.book.dto.CreateBookForm;
 import com.jeremw.bookstore.api.book.dto.UpdateBookForm;
 import com.jeremw.bookstore.api.book.util.BookMapper;
+import com.jeremw.bookstore.api.config.web.JsonStream;
 import com.jeremw.bookstore.api.user.UserResourceException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 
@@ -36,31 +42,119 @@ public class BookControllerImpl implements BookController {
 
 	private final BookService bookService;
 
+	private final BookChangeFeed bookChangeFeed;
+
 	/**
 	 * Retrieves all books associated with a specific user.
 	 *
+	 * <p>
+	 * The books are written to the response as they are read, the number of books is sent
+	 * in the X-Total-Count header before the first book. The response is compressed as it
+	 * is written, without an ETag, and its Server-Timing header lacks the read of the books.
+	 * </p>
+	 *
 	 * @param userId The ID of the user
-	 * @return A ResponseEntity containing a list of books associated with the user
+	 * @param fields The comma separated names of the fields to return, absent for all the fields
+	 * @return A ResponseEntity containing the stream of the books associated with the user
 	 */
 	@Override
-	public ResponseEntity<List<BookDto>> getBooks(Long userId) {
+	public ResponseEntity<JsonStream<BookDto>> getBooks(Long userId, String fields) throws BookResourceException {
 		log.info("Fetching all books.");
-		List<BookDto> bookDtos = BookMapper.INSTANCE.toDtoList(bookService.getBooksByUserId(userId));
+		Set<BookField> bookFields = BookField.parse(fields);
+		JsonStream<BookDto> bookDtos = writer -> bookService.forEachBookByUserId(userId, bookFields, new BookRowHandler() {
+
+			@Override
+			public void begin(long total) {
+				writer.header(TOTAL_COUNT_HEADER, String.valueOf(total));
+			}
+
+			@Override
+			public void handle(BookDto bookDto) throws IOException {
+				writer.write(bookDto);
+			}
+
+		});
 		return ResponseEntity.status(HttpStatus.OK).body(bookDtos);
 
 	}
 
+	/**
+	 * Retrieves books of a user by their IDs.
+	 *
+	 * @param userId The ID of the user
+	 * @param ids    The IDs of the books
+	 * @return A ResponseEntity containing the books found, in the order of the IDs, and the missing IDs
+	 */
+	@Override
+	public ResponseEntity<BookBatchDto> getBooksByIds(Long userId, List<Long> ids) throws BookResourceException {
+		log.info("Fetching books by IDs.");
+		BookBatch bookBatch = bookService.getBooksByIdsAndUserId(userId, ids);
+		BookBatchDto bookBatchDto = BookBatchDto.builder()
+				.books(BookMapper.INSTANCE.toDtoList(bookBatch.getBooks()))
+				.missingIds(bookBatch.getMissingIds())
+				.build();
+		return ResponseEntity.status(HttpStatus.OK).body(bookBatchDto);
+	}
+
+	/**
+	 * Retrieves the number of books of a user, without the books.
+	 *
+	 * @param userId The ID of the user
+	 * @return A ResponseEntity carrying the number of books in the X-Total-Count header
+	 */
+	@Override
+	public ResponseEntity<Void> countBooks(Long userId) throws UserResourceException {
+		log.info("Counting books.");
+		long count = bookService.countBooksByUserId(userId);
+		return ResponseEntity.status(HttpStatus.OK).header(TOTAL_COUNT_HEADER, String.valueOf(count)).build();
+	}
+
+	/**
+	 * Retrieves the books of a user changed since a sync token.
+	 *
+	 * @param userId The ID of the user
+	 * @param since  The token returned by the previous sync, absent for a full sync
+	 * @return A ResponseEntity containing the changed books, the deleted book IDs and the next token
+	 */
+	@Override
+	public ResponseEntity<BookSyncDto> syncBooks(Long userId, String since) throws BookResourceException {
+		log.info("Syncing books since token {}", since);
+		BookChanges bookChanges = bookService.getBookChangesSince(userId, since);
+		BookSyncDto bookSyncDto = BookSyncDto.builder()
+				.books(BookMapper.INSTANCE.toDtoList(bookChanges.getBooks()))
+				.deletedIds(bookChanges.getDeletedIds())
+				.token(String.valueOf(bookChanges.getToken()))
+				.build();
+		return ResponseEntity.status(HttpStatus.OK).body(bookSyncDto);
+	}
+
+	/**
+	 * Streams the changes of the books of a user as Server-Sent Events.
+	 *
+	 * @param userId      The ID of the user
+	 * @param lastEventId The ID of the last event received, to resume the stream from
+	 * @return The emitter of the book changes
+	 */
+	@Override
+	public SseEmitter getBookChanges(Long userId, String lastEventId) {
+		log.info("Streaming book changes for user ID: {}", userId);
+		return bookChangeFeed.subscribe(userId, lastEventId);
+	}
+
 	/**
 	 * Retrieves a specific book associated with a user by its ID.
 	 *
 	 * @param userId The ID of the user
 	 * @param bookId The ID of the book
+	 * @param fields The comma separated names of the fields to return, absent for all the fields
 	 * @return A ResponseEntity containing the book associated with the user
 	 */
 	@Override
-	public ResponseEntity<BookDto> getBookById(Long userId, Long bookId) throws BookResourceException {
+	public ResponseEntity<BookDto> getBookById(Long userId, Long bookId, String fields) throws BookResourceException {
 		log.info("Fetching book by ID: {}", bookId);
-		BookDto bookDto = BookMapper.INSTANCE.toDto(bookService.getBookByIdAndUserId(userId, bookId));
+		BookDto bookDto = fields == null
+				? BookMapper.INSTANCE.toDto(bookService.getBookByIdAndUserId(userId, bookId))
+				: bookService.getBookByIdAndUserId(userId, bookId, BookField.parse(fields));
 		return ResponseEntity.status(HttpStatus.OK).body(bookDto);
 	}
 
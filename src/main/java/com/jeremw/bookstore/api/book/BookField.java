@@ -0,0 +1,69 @@
+package com.jeremw.bookstore.api.book;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * The fields of a book which can be selected with a sparse fieldset.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BookField {
+
+	ID("id"),
+	TITLE("title"),
+	DESCRIPTION("description"),
+	AUTHOR("author");
+
+	/**
+	 * The name of the field, in the payloads and in the {@link Book} entity.
+	 */
+	private final String attribute;
+
+	/**
+	 * Finds the field of the given name.
+	 *
+	 * @param name The name of the field, case insensitive
+	 * @return The field, or empty when no field has this name
+	 */
+	public static Optional<BookField> fromName(String name) {
+		try {
+			return Optional.of(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+		}
+		catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Parses a sparse fieldset.
+	 *
+	 * @param fields The comma separated names of the fields, or null for all the fields
+	 * @return The fields
+	 * @throws BookResourceException If a field name is invalid
+	 */
+	public static Set<BookField> parse(String fields) throws BookResourceException {
+		if (fields == null) {
+			return EnumSet.allOf(BookField.class);
+		}
+		Set<BookField> bookFields = EnumSet.noneOf(BookField.class);
+		for (String name : fields.split(",")) {
+			bookFields.add(fromName(name)
+					.orElseThrow(() -> new BookResourceException("InvalidFields", "The field '" + name.trim()
+							+ "' is not a field of a book.", HttpStatus.BAD_REQUEST)));
+		}
+		return bookFields;
+	}
+
+}
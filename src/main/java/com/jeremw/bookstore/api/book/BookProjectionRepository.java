@@ -0,0 +1,44 @@
+package com.jeremw.bookstore.api.book;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+import com.jeremw.bookstore.api.book.dto.BookDto;
+
+/**
+ * Queries of the {@link Book} entities selecting a subset of their columns.
+ *
+ * <p>
+ * Only the columns of the requested fields are read from the database, the other fields
+ * of the returned payloads are null. The ID is always selected.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public interface BookProjectionRepository {
+
+	/**
+	 * Reads the given fields of the books of a user, ordered by ID, and hands each row over
+	 * as soon as it is read. No entity is loaded and the rows are not collected.
+	 *
+	 * @param userId  The ID of the user
+	 * @param fields  The fields to select
+	 * @param handler The handler of the rows
+	 * @throws IOException If the handler fails
+	 */
+	void forEachBookByUserId(Long userId, Set<BookField> fields, BookRowHandler handler) throws IOException;
+
+	/**
+	 * Finds the given fields of a book of a user.
+	 *
+	 * @param bookId The ID of the book
+	 * @param userId The ID of the user
+	 * @param fields The fields to select
+	 * @return The payload of the book, or empty when the user has no such book
+	 */
+	Optional<BookDto> findByIdAndUserId(Long bookId, Long userId, Set<BookField> fields);
+
+}
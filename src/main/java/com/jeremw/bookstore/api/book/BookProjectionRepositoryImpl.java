@@ -0,0 +1,105 @@
+package com.jeremw.bookstore.api.book;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.jeremw.bookstore.api.book.dto.BookDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * Implementation of the {@link BookProjectionRepository} with HQL tuple queries.
+ *
+ * <p>
+ * The queries go through the entity model, so the deleted books stay filtered out and the
+ * user is matched on the {@code user_id} column without a join. The listing reads the
+ * number of books in the same statement, with a window count on each row.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class BookProjectionRepositoryImpl implements BookProjectionRepository {
+
+	/**
+	 * The number of rows fetched per round trip while the listing is read.
+	 */
+	private static final int FETCH_SIZE = 500;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public void forEachBookByUserId(Long userId, Set<BookField> fields, BookRowHandler handler) throws IOException {
+		List<BookField> selectedFields = selectedFields(fields);
+		String query = select(selectedFields) + ", count(*) over () from Book b where b.user.id = :userId order by b.id";
+
+		try (Stream<Object[]> rows = entityManager.createQuery(query, Object[].class)
+				.setParameter("userId", userId)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+				.getResultStream()) {
+			Iterator<Object[]> iterator = rows.iterator();
+			if (!iterator.hasNext()) {
+				handler.begin(0);
+				return;
+			}
+
+			Object[] row = iterator.next();
+			handler.begin((Long) row[selectedFields.size()]);
+			handler.handle(toDto(selectedFields, row));
+			while (iterator.hasNext()) {
+				handler.handle(toDto(selectedFields, iterator.next()));
+			}
+		}
+	}
+
+	@Override
+	public Optional<BookDto> findByIdAndUserId(Long bookId, Long userId, Set<BookField> fields) {
+		List<BookField> selectedFields = selectedFields(fields);
+		String query = select(selectedFields) + " from Book b where b.id = :bookId and b.user.id = :userId";
+
+		return entityManager.createQuery(query, Object[].class)
+				.setParameter("bookId", bookId)
+				.setParameter("userId", userId)
+				.getResultList()
+				.stream()
+				.findFirst()
+				.map(row -> toDto(selectedFields, row));
+	}
+
+	private static List<BookField> selectedFields(Set<BookField> fields) {
+		List<BookField> selectedFields = new ArrayList<>();
+		selectedFields.add(BookField.ID);
+		fields.stream().filter(field -> field != BookField.ID).forEach(selectedFields::add);
+		return selectedFields;
+	}
+
+	private static String select(List<BookField> selectedFields) {
+		return selectedFields.stream()
+				.map(field -> "b." + field.getAttribute())
+				.collect(Collectors.joining(", ", "select ", ""));
+	}
+
+	private static BookDto toDto(List<BookField> selectedFields, Object[] row) {
+		BookDto.BookDtoBuilder builder = BookDto.builder();
+		for (int i = 0; i < selectedFields.size(); i++) {
+			Object value = row[i];
+			switch (selectedFields.get(i)) {
+				case ID -> builder.id((Long) value);
+				case TITLE -> builder.title((String) value);
+				case DESCRIPTION -> builder.description((String) value);
+				case AUTHOR -> builder.author((String) value);
+			}
+		}
+		return builder.build();
+	}
+
+}
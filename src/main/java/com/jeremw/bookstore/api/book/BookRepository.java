@@ -1,20 +1,43 @@
 package com.jeremw.bookstore.api.book;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
+ * Repository of the {@link Book} entities.
+ *
+ * <p>
+ * The queries filter on the {@code user_id} foreign key column directly. The derived
+ * queries joined {@code user_app} and filtered on its primary key, which prevented the
+ * {@code (user_id, id)} index from being used.
+ * </p>
+ *
+ * <p>
+ * The sparse fieldsets are read by the queries of the {@link BookProjectionRepository}.
+ * </p>
+ *
  * @author Jérémy Woirhaye
  * @version 1.0
  * @since 11/05/2024
  */
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookProjectionRepository {
 
-	List<Book> findBooksByUserId(Long userId);
+	@Query("select b from Book b where b.user.id = :userId order by b.id")
+	List<Book> findBooksByUserId(@Param("userId") Long userId);
 
-	Optional<Book> findByIdAndUserId(Long bookId, Long userId);
+	@Query("select b from Book b where b.id = :bookId and b.user.id = :userId")
+	Optional<Book> findByIdAndUserId(@Param("bookId") Long bookId, @Param("userId") Long userId);
+
+	@Query("select b from Book b where b.user.id = :userId and b.id in :bookIds")
+	List<Book> findBooksByUserIdAndIdIn(@Param("userId") Long userId, @Param("bookIds") Collection<Long> bookIds);
+
+	@Query("select b from Book b where b.user.id = :userId and b.changeSeq > :since order by b.changeSeq")
+	List<Book> findBooksChangedSince(@Param("userId") Long userId, @Param("since") long since);
 }
@@ -22,4 +22,17 @@ public class BookResourceException extends ResourceException {
 	public BookResourceException(String errorCode, String errorMessage, HttpStatus status) {
 		super(errorCode, errorMessage, status);
 	}
+
+	/**
+	 * Constructs a new ResourceException with the specified error code, error message,
+	 * HTTP status and cause.
+	 *
+	 * @param errorCode    The unique identifier for the type of error.
+	 * @param errorMessage The human-readable error message.
+	 * @param status       The HTTP status associated with the exception.
+	 * @param cause        The exception which caused this error.
+	 */
+	public BookResourceException(String errorCode, String errorMessage, HttpStatus status, Throwable cause) {
+		super(errorCode, errorMessage, status, cause);
+	}
 }
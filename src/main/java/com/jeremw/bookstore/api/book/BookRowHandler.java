@@ -0,0 +1,32 @@
+package com.jeremw.bookstore.api.book;
+
+import java.io.IOException;
+
+import com.jeremw.bookstore.api.book.dto.BookDto;
+
+/**
+ * Handler of the books read one row at a time.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public interface BookRowHandler {
+
+	/**
+	 * Called once, before the first book.
+	 *
+	 * @param total The number of books which follow
+	 * @throws IOException If an I/O error occurs while handling the books
+	 */
+	void begin(long total) throws IOException;
+
+	/**
+	 * Called for each book, in the order of the query.
+	 *
+	 * @param book The payload of the book
+	 * @throws IOException If an I/O error occurs while handling the book
+	 */
+	void handle(BookDto book) throws IOException;
+
+}
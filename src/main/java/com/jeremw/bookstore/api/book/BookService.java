@@ -1,7 +1,10 @@
 package com.jeremw.bookstore.api.book;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Set;
 
+import com.jeremw.bookstore.api.book.dto.BookDto;
 import com.jeremw.bookstore.api.book.dto.CreateBookForm;
 import com.jeremw.bookstore.api.book.dto.UpdateBookForm;
 import com.jeremw.bookstore.api.user.UserResourceException;
@@ -19,12 +22,24 @@ import org.springframework.stereotype.Service;
 public interface BookService {
 
 	/**
-	 * Retrieves all books associated with a specific user.
+	 * Reads the given fields of all books associated with a specific user, and hands each
+	 * book over as soon as it is read.
+	 *
+	 * @param userId  The ID of the user
+	 * @param fields  The fields to read, the ID is always read
+	 * @param handler The handler of the books, called within the read transaction
+	 * @throws IOException If the handler fails
+	 */
+	void forEachBookByUserId(Long userId, Set<BookField> fields, BookRowHandler handler) throws IOException;
+
+	/**
+	 * Retrieves the number of books of a user, maintained on each create and delete.
 	 *
 	 * @param userId The ID of the user
-	 * @return A list of books associated with the user
+	 * @return The number of books of the user
+	 * @throws UserResourceException If the user is not found
 	 */
-	List<Book> getBooksByUserId(Long userId);
+	long countBooksByUserId(Long userId) throws UserResourceException;
 
 	/**
 	 * Retrieves a specific book associated with a user by its ID.
@@ -36,6 +51,37 @@ public interface BookService {
 	 */
 	Book getBookByIdAndUserId(Long userId, Long bookId) throws BookResourceException;
 
+	/**
+	 * Retrieves the given fields of a specific book associated with a user by its ID.
+	 *
+	 * @param userId The ID of the user
+	 * @param bookId The ID of the book
+	 * @param fields The fields to read, the ID is always read
+	 * @return The payload of the book, without the fields left out
+	 * @throws BookResourceException If the book is not found
+	 */
+	BookDto getBookByIdAndUserId(Long userId, Long bookId, Set<BookField> fields) throws BookResourceException;
+
+	/**
+	 * Retrieves the books of a user by their IDs.
+	 *
+	 * @param userId  The ID of the user
+	 * @param bookIds The IDs of the books
+	 * @return The books found, in the order of the IDs, and the IDs matching no book of the user
+	 * @throws BookResourceException If too many IDs are requested
+	 */
+	BookBatch getBooksByIdsAndUserId(Long userId, List<Long> bookIds) throws BookResourceException;
+
+	/**
+	 * Retrieves the changes of the books of a user since a sync token.
+	 *
+	 * @param userId The ID of the user
+	 * @param since  The token returned by the previous sync, or null for a full sync
+	 * @return The books created or updated and the IDs of the books deleted since the token
+	 * @throws BookResourceException If the token is invalid
+	 */
+	BookChanges getBookChangesSince(Long userId, String since) throws BookResourceException;
+
 	/**
 	 * Creates a new book for a user.
 	 *
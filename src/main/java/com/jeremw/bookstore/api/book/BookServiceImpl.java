@@ -1,22 +1,50 @@
 package com.jeremw.bookstore.api.book;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import com.jeremw.bookstore.api.book.dto.BookDto;
 import com.jeremw.bookstore.api.book.dto.CreateBookForm;
 import com.jeremw.bookstore.api.book.dto.UpdateBookForm;
+import com.jeremw.bookstore.api.config.coalescing.Coalesced;
+import com.jeremw.bookstore.api.config.outbox.Outbox;
+import com.jeremw.bookstore.api.config.outbox.OutboxEvent;
+import com.jeremw.bookstore.api.exception.ResourceException;
 import com.jeremw.bookstore.api.user.User;
 import com.jeremw.bookstore.api.user.UserResourceException;
 import com.jeremw.bookstore.api.user.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * This class implements the {@link BookService} interface and provides methods for book management.
  * It handles operations such as fetching, creating, updating, and deleting books.
  *
+ * <p>
+ * Reads run in read-only transactions and writes in read-write transactions rolled back
+ * on any {@link ResourceException}, so each call holds a single connection for its own
+ * duration only.
+ * </p>
+ *
+ * <p>
+ * Each change is recorded in the {@link Outbox} in the transaction making it, for the
+ * consumers following the changes asynchronously, and the book count of the user is
+ * updated along with it.
+ * </p>
+ *
  * @author Jérémy Woirhaye
  * @version 1.0
  * @since 11/05/2024
@@ -24,23 +52,63 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class BookServiceImpl implements BookService {
 
+	private static final String AGGREGATE_TYPE = "Book";
+
 	private final BookRepository bookRepository;
 	private final UserService userService;
+	private final Outbox outbox;
+	private final BookTombstoneRepository bookTombstoneRepository;
+
+	@Value("${book-sync.settle-window:PT10S}")
+	private Duration syncSettleWindow = Duration.ofSeconds(10);
+
+	@Value("${book-batch.chunk-size:500}")
+	private int batchChunkSize = 500;
+
+	@Value("${book-batch.max-ids:1000}")
+	private int batchMaxIds = 1000;
 
 
 	/**
-	 * Retrieves all books associated with a specific user.
+	 * Reads the given fields of all books associated with a specific user, and hands each
+	 * book over as soon as it is read.
 	 *
-	 * @param userId The ID of the user
-	 * @return A list of books associated with the user
+	 * <p>
+	 * Only the columns of the requested fields are selected, and the rows are neither loaded
+	 * as entities nor collected: the connection is held until the handler has consumed the
+	 * last book.
+	 * </p>
+	 *
+	 * @param userId  The ID of the user
+	 * @param fields  The fields to read, the ID is always read
+	 * @param handler The handler of the books, called within the read transaction
+	 * @throws IOException If the handler fails
 	 */
 	@Override
-	public List<Book> getBooksByUserId(Long userId) {
-		log.info("Fetching all books for user id {}", userId);
-		return bookRepository.findBooksByUserId(userId);
+	public void forEachBookByUserId(Long userId, Set<BookField> fields, BookRowHandler handler) throws IOException {
+		log.info("Reading fields {} of all books for user id {}", fields, userId);
+		bookRepository.forEachBookByUserId(userId, fields, handler);
+	}
 
+	/**
+	 * Retrieves the number of books of a user, maintained on each create and delete.
+	 *
+	 * <p>
+	 * No transaction is opened on the books, the count is read by the user service only.
+	 * </p>
+	 *
+	 * @param userId The ID of the user
+	 * @return The number of books of the user
+	 * @throws UserResourceException If the user is not found
+	 */
+	@Override
+	@Coalesced
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public long countBooksByUserId(Long userId) throws UserResourceException {
+		return userService.getBookCount(userId);
 	}
 
 	/**
@@ -60,6 +128,85 @@ public class BookServiceImpl implements BookService {
 
 	}
 
+	/**
+	 * Retrieves the given fields of a specific book associated with a user by its ID.
+	 *
+	 * @param userId The ID of the user
+	 * @param bookId The ID of the book
+	 * @param fields The fields to read, the ID is always read
+	 * @return The payload of the book, without the fields left out
+	 * @throws BookResourceException If the book is not found
+	 */
+	@Override
+	public BookDto getBookByIdAndUserId(Long userId, Long bookId, Set<BookField> fields) throws BookResourceException {
+		log.info("Fetching fields {} of book by ID: {}", fields, bookId);
+		return bookRepository.findByIdAndUserId(bookId, userId, fields)
+				.orElseThrow(() -> new BookResourceException("BookNotFound", "The book ID is not found in the database.",
+						HttpStatus.NOT_FOUND));
+	}
+
+	/**
+	 * Retrieves the books of a user by their IDs.
+	 *
+	 * <p>
+	 * The books are read by one query per chunk of IDs rather than one query per book. The
+	 * duplicated IDs are only read once.
+	 * </p>
+	 *
+	 * @param userId  The ID of the user
+	 * @param bookIds The IDs of the books
+	 * @return The books found, in the order of the IDs, and the IDs matching no book of the user
+	 * @throws BookResourceException If too many IDs are requested
+	 */
+	@Override
+	public BookBatch getBooksByIdsAndUserId(Long userId, List<Long> bookIds) throws BookResourceException {
+		List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(bookIds));
+		if (distinctIds.size() > batchMaxIds) {
+			throw new BookResourceException("TooManyIds",
+					"At most " + batchMaxIds + " books can be read at once.", HttpStatus.BAD_REQUEST);
+		}
+		log.info("Fetching {} books by ID for user id {}", distinctIds.size(), userId);
+
+		Map<Long, Book> booksById = new HashMap<>();
+		for (int from = 0; from < distinctIds.size(); from += batchChunkSize) {
+			List<Long> chunk = distinctIds.subList(from, Math.min(from + batchChunkSize, distinctIds.size()));
+			bookRepository.findBooksByUserIdAndIdIn(userId, chunk).forEach(book -> booksById.put(book.getId(), book));
+		}
+
+		return BookBatch.builder()
+				.books(distinctIds.stream().map(booksById::get).filter(Objects::nonNull).toList())
+				.missingIds(distinctIds.stream().filter(id -> !booksById.containsKey(id)).toList())
+				.build();
+	}
+
+	/**
+	 * Retrieves the changes of the books of a user since a sync token.
+	 *
+	 * <p>
+	 * The new token is held back by the settle window, so a change allocated before the
+	 * token but committed after this sync is not missed: the changes of the window are
+	 * sent again by the next sync.
+	 * </p>
+	 *
+	 * @param userId The ID of the user
+	 * @param since  The token returned by the previous sync, or null for a full sync
+	 * @return The books created or updated and the IDs of the books deleted since the token
+	 * @throws BookResourceException If the token is invalid
+	 */
+	@Override
+	@Coalesced
+	public BookChanges getBookChangesSince(Long userId, String since) throws BookResourceException {
+		log.info("Fetching book changes for user id {} since {}", userId, since);
+		long sinceSeq = parseSyncToken(since);
+		long token = Math.max(sinceSeq, BookChangeSequence.settledBefore(syncSettleWindow));
+
+		return BookChanges.builder()
+				.books(bookRepository.findBooksChangedSince(userId, sinceSeq))
+				.deletedIds(sinceSeq < 0 ? List.of() : bookTombstoneRepository.findBookIdsDeletedSince(userId, sinceSeq))
+				.token(token)
+				.build();
+	}
+
 	/**
 	 * Creates a new book for a user.
 	 *
@@ -69,6 +216,7 @@ public class BookServiceImpl implements BookService {
 	 * @throws BookResourceException If there is an error creating the book
 	 */
 	@Override
+	@Transactional(rollbackFor = ResourceException.class)
 	public Book createBookForUser(Long userId, CreateBookForm createBookForm) throws BookResourceException, UserResourceException {
 		log.info("Creating book: {}", createBookForm.getTitle());
 		User user = userService.getUserById(userId);
@@ -81,6 +229,10 @@ public class BookServiceImpl implements BookService {
 
 		try {
 			Book createdBook = bookRepository.save(bookToCreate);
+			outbox.record(AGGREGATE_TYPE, createdBook.getId(), userId, OutboxEvent.Type.CREATED);
+			userService.addToBookCount(userId, 1);
+			// The inserts are batched until the commit, flushed here to map their failures
+			bookRepository.flush();
 			log.info("Book created successfully: {}", createdBook.getId());
 			return createdBook;
 		}
@@ -88,7 +240,7 @@ public class BookServiceImpl implements BookService {
 			log.error("Error creating book: {}", e.getMessage());
 			throw new BookResourceException("CreateBookError", "Error while creating the book '"
 					+ createBookForm.getTitle() + "' for user " + user.getUsername() + ".",
-					HttpStatus.INTERNAL_SERVER_ERROR);
+					HttpStatus.INTERNAL_SERVER_ERROR, e);
 		}
 
 	}
@@ -103,6 +255,7 @@ public class BookServiceImpl implements BookService {
 	 * @throws BookResourceException If the book is not found or cannot be updated
 	 */
 	@Override
+	@Transactional(rollbackFor = ResourceException.class)
 	public Book updateBookByIdAndUserId(Long userId, Long bookId, UpdateBookForm updateBookForm) throws BookResourceException {
 		log.info("Updating book with ID: {}", bookId);
 
@@ -121,6 +274,8 @@ public class BookServiceImpl implements BookService {
 
 		try {
 			Book updatedBook = bookRepository.save(bookDatabase);
+			outbox.record(AGGREGATE_TYPE, updatedBook.getId(), userId, OutboxEvent.Type.UPDATED);
+			bookRepository.flush();
 			log.info("Book updated successfully: {}", updatedBook.getId());
 			return updatedBook;
 		}
@@ -128,7 +283,7 @@ public class BookServiceImpl implements BookService {
 			log.error("Error updating book: {}", e.getMessage());
 			throw new BookResourceException("UpdateBookError", "Error while updating the book with the ID '"
 					+ bookId + "' for user Id " + userId + ".",
-					HttpStatus.INTERNAL_SERVER_ERROR);
+					HttpStatus.INTERNAL_SERVER_ERROR, e);
 		}
 
 	}
@@ -141,19 +296,41 @@ public class BookServiceImpl implements BookService {
 	 * @throws BookResourceException If the book is not found or cannot be deleted
 	 */
 	@Override
+	@Transactional(rollbackFor = ResourceException.class)
 	public void deleteBookForUser(Long userId, Long bookId) throws BookResourceException {
 		log.info("Deleting book with ID: {}, for user ID : {}", bookId, userId);
 		try {
 			bookRepository.delete(getBookByIdAndUserId(userId, bookId));
+			bookTombstoneRepository.save(BookTombstone.builder()
+					.bookId(bookId)
+					.userId(userId)
+					.changeSeq(BookChangeSequence.next())
+					.build());
+			outbox.record(AGGREGATE_TYPE, bookId, userId, OutboxEvent.Type.DELETED);
+			userService.addToBookCount(userId, -1);
+			bookRepository.flush();
 			log.info("Book deleted successfully: {}", bookId);
 		}
 		catch (Exception e) {
 			log.error("Error deleting book: {}", e.getMessage());
 			throw new BookResourceException("DeleteBookError",
 					"Error while deleting the book with the ID '" + bookId + "' for user ID " + userId + ".",
-					HttpStatus.INTERNAL_SERVER_ERROR);
+					HttpStatus.INTERNAL_SERVER_ERROR, e);
 		}
 
 	}
 
+	private static long parseSyncToken(String since) throws BookResourceException {
+		if (since == null || since.isBlank()) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(since);
+		}
+		catch (NumberFormatException e) {
+			throw new BookResourceException("InvalidSyncToken", "The sync token '" + since + "' is invalid.",
+					HttpStatus.BAD_REQUEST);
+		}
+	}
+
 }
@@ -0,0 +1,51 @@
+package com.jeremw.bookstore.api.book;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Entity class recording a deleted book, for the delta sync of the library of its owner.
+ *
+ * <p>
+ * A tombstone is only ever inserted, so it is persisted without looking up an existing
+ * row with the same book ID.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookTombstone implements Persistable<Long> {
+
+	@Id
+	private Long bookId;
+
+	@Column(nullable = false, updatable = false)
+	private Long userId;
+
+	@Column(nullable = false, updatable = false)
+	private Long changeSeq;
+
+	@Override
+	public Long getId() {
+		return bookId;
+	}
+
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+
+}
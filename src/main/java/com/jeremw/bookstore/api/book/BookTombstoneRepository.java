@@ -0,0 +1,23 @@
+package com.jeremw.bookstore.api.book;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of the {@link BookTombstone} entities.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Repository
+public interface BookTombstoneRepository extends JpaRepository<BookTombstone, Long> {
+
+	@Query("select t.bookId from BookTombstone t where t.userId = :userId and t.changeSeq > :since order by t.changeSeq")
+	List<Long> findBookIdsDeletedSince(@Param("userId") Long userId, @Param("since") long since);
+
+}
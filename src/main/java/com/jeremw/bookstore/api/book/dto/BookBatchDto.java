@@ -0,0 +1,24 @@
+package com.jeremw.bookstore.api.book.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@Builder
+public class BookBatchDto {
+
+	private List<BookDto> books;
+
+	/**
+	 * The requested IDs matching no book of the user.
+	 */
+	private List<Long> missingIds;
+
+}
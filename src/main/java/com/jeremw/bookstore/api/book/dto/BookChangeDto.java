@@ -0,0 +1,24 @@
+package com.jeremw.bookstore.api.book.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A change of a book pushed to the change feed of its owner.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@Builder
+public class BookChangeDto {
+
+	/**
+	 * The type of the change: {@code CREATED}, {@code UPDATED} or {@code DELETED}.
+	 */
+	private String type;
+
+	private Long bookId;
+
+}
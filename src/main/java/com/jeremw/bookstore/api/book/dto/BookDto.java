@@ -1,15 +1,19 @@
 package com.jeremw.bookstore.api.book.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
 /**
+ * Payload of a book. The fields left out of a sparse fieldset are null and not sent.
+ *
  * @author Jérémy Woirhaye
  * @version 1.0
  * @since 11/05/2024
  */
 @Data
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class BookDto {
 
 	private Long id;
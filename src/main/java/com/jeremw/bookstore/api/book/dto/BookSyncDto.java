@@ -0,0 +1,26 @@
+package com.jeremw.bookstore.api.book.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@Builder
+public class BookSyncDto {
+
+	private List<BookDto> books;
+
+	private List<Long> deletedIds;
+
+	/**
+	 * The opaque token to send as the {@code since} parameter of the next sync.
+	 */
+	private String token;
+
+}
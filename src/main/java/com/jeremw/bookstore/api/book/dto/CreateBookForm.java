@@ -2,6 +2,7 @@ package com.jeremw.bookstore.api.book.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
 
@@ -15,14 +16,17 @@ import lombok.Data;
 public class CreateBookForm {
 
 	@NotBlank(message = "The title is required to create a new book.")
+	@Size(max = 255, message = "The title must not exceed 255 characters.")
 	@Schema(description = "The title of the new book")
 	private String title;
 
 	@NotBlank(message = "The description is required to create a new book.")
+	@Size(max = 2000, message = "The description must not exceed 2000 characters.")
 	@Schema(description = "The description of the new book")
 	private String description;
 
 	@NotBlank(message = "The author is required to create a new book.")
+	@Size(max = 255, message = "The author must not exceed 255 characters.")
 	@Schema(description = "The author of the new book")
 	private String author;
 }
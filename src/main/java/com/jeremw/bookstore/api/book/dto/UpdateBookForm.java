@@ -1,5 +1,6 @@
 package com.jeremw.bookstore.api.book.dto;
 
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
 
@@ -12,7 +13,9 @@ import lombok.Data;
 @Builder
 public class UpdateBookForm {
 
+	@Size(max = 2000, message = "The description must not exceed 2000 characters.")
 	private String description;
 
+	@Size(max = 255, message = "The author must not exceed 255 characters.")
 	private String author;
 }
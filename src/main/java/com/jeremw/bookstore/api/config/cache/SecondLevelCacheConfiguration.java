@@ -0,0 +1,121 @@
+package com.jeremw.bookstore.api.config.cache;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class enabling the Hibernate second-level cache.
+ *
+ * <p>
+ * The regions are local Caffeine caches created from {@link SecondLevelCacheProperties}
+ * in a cache manager owned by the application context. Entities opt in with
+ * {@link org.hibernate.annotations.Cache} and queries with the
+ * {@link org.hibernate.jpa.HibernateHints#HINT_CACHEABLE} hint.
+ * </p>
+ *
+ * <p>
+ * Writes through the entity manager and JPQL bulk statements keep the regions consistent:
+ * Hibernate evicts the regions of the entities a bulk statement targets and invalidates
+ * the cached queries on the modified tables. Native statements must declare the entities
+ * they modify (see {@code NativeQuery#addSynchronizedEntityClass}), otherwise Hibernate
+ * has to evict every region.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@ConditionalOnProperty(prefix = "second-level-cache", name = "enabled", matchIfMissing = true)
+public class SecondLevelCacheConfiguration {
+
+	private final SecondLevelCacheProperties secondLevelCacheProperties;
+
+	/**
+	 * Defines the cache manager holding the second-level cache regions.
+	 *
+	 * <p>
+	 * Each application context gets its own cache manager, so that contexts running in the
+	 * same JVM never share cached entities.
+	 * </p>
+	 *
+	 * @return The cache manager with one cache per configured region.
+	 */
+	@Bean(destroyMethod = "close")
+	public CacheManager secondLevelCacheManager() {
+		CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+				.getCacheManager(URI.create("second-level-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+
+		for (Map.Entry<String, SecondLevelCacheProperties.Region> region : secondLevelCacheProperties.getRegions()
+				.entrySet()) {
+			createRegion(cacheManager, region.getKey(), region.getValue());
+		}
+
+		if (cacheManager.getCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME) == null) {
+			createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+					new SecondLevelCacheProperties.Region());
+		}
+
+		// The update timestamps must outlive any cached query result, they are never evicted.
+		if (cacheManager.getCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME) == null) {
+			cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+					new CaffeineConfiguration<>());
+		}
+
+		return cacheManager;
+	}
+
+	/**
+	 * Enables the second-level and query caches backed by {@link #secondLevelCacheManager()}.
+	 *
+	 * @return The customizer of the Hibernate properties.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+		return properties -> {
+			properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+			properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager());
+			properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+			properties.put(AvailableSettings.GENERATE_STATISTICS, secondLevelCacheProperties.isStatistics());
+			// The statistics feed the metrics only, not a "Session Metrics" log per closed session
+			properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+		};
+	}
+
+	private void createRegion(CacheManager cacheManager, String name, SecondLevelCacheProperties.Region region) {
+		log.info("Creating second-level cache region {} (max size {}, ttl {})", name, region.getMaxSize(),
+				region.getTtl());
+
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+		configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+		configuration.setStatisticsEnabled(secondLevelCacheProperties.isStatistics());
+		cacheManager.createCache(name, configuration);
+	}
+
+}
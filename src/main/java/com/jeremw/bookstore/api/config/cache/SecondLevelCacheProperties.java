@@ -0,0 +1,61 @@
+package com.jeremw.bookstore.api.config.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the Hibernate second-level cache.
+ *
+ * <p>
+ * Each region used by an entity or a cacheable query must be declared under
+ * {@code second-level-cache.regions}; the application fails to start when a region is
+ * missing.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+
+	/**
+	 * Whether the second-level and query caches are enabled.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Whether Hibernate collects the statistics published as {@code hibernate.*} metrics.
+	 */
+	private boolean statistics = true;
+
+	/**
+	 * The settings of the regions, keyed by region name.
+	 */
+	private Map<String, Region> regions = new LinkedHashMap<>();
+
+	/**
+	 * Settings of one cache region.
+	 */
+	@Data
+	public static class Region {
+
+		/**
+		 * The maximum number of entries of the region.
+		 */
+		private long maxSize = 1000;
+
+		/**
+		 * The time after which an entry expires once written.
+		 */
+		private Duration ttl = Duration.ofMinutes(10);
+
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.jeremw.bookstore.api.config.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read whose concurrent identical calls share a single execution.
+ *
+ * <p>
+ * The calls with equal arguments made while a first call is in flight wait for it and get
+ * its result, or its exception: the result is shared and must not be modified. A call
+ * made within a transaction is never coalesced, it reads its own transaction. See
+ * {@link SingleFlightAspect}.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+}
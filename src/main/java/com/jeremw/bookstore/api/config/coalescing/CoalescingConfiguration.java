@@ -0,0 +1,53 @@
+package com.jeremw.bookstore.api.config.coalescing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class of the coalescing of the {@link Coalesced} reads.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(CoalescingProperties.class)
+@ConditionalOnProperty(prefix = "single-flight", name = "enabled", matchIfMissing = true)
+public class CoalescingConfiguration {
+
+	private final CoalescingProperties coalescingProperties;
+
+	/**
+	 * Defines the single flight of the coalesced reads.
+	 *
+	 * @param meterRegistry The registry publishing the coalesced calls.
+	 * @return The single flight.
+	 */
+	@Bean
+	public SingleFlight singleFlight(MeterRegistry meterRegistry) {
+		SingleFlight singleFlight = new SingleFlight(coalescingProperties.getTimeout(), meterRegistry);
+		Gauge.builder("single-flight.in-flight", singleFlight, SingleFlight::inFlight)
+				.description("Coalesced reads in flight")
+				.register(meterRegistry);
+		return singleFlight;
+	}
+
+	/**
+	 * Defines the aspect coalescing the reads.
+	 *
+	 * @param singleFlight The single flight of the coalesced reads.
+	 * @return The aspect.
+	 */
+	@Bean
+	public SingleFlightAspect singleFlightAspect(SingleFlight singleFlight) {
+		return new SingleFlightAspect(singleFlight);
+	}
+
+}
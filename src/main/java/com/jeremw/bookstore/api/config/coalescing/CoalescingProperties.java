@@ -0,0 +1,31 @@
+package com.jeremw.bookstore.api.config.coalescing;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the coalescing of the concurrent identical reads.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "single-flight")
+public class CoalescingProperties {
+
+	/**
+	 * Whether the concurrent identical reads are coalesced.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The maximum duration a read waits for the identical read in flight, before
+	 * executing itself.
+	 */
+	private Duration timeout = Duration.ofSeconds(2);
+
+}
@@ -0,0 +1,128 @@
+package com.jeremw.bookstore.api.config.coalescing;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Executes the concurrent calls of the same key once.
+ *
+ * <p>
+ * The first call of a key executes on its own thread and publishes its outcome. The calls
+ * of the same key made meanwhile wait for this outcome instead of executing. A call which
+ * waited longer than the timeout executes itself, so a slow first call only delays the
+ * others by the timeout. The calls are counted in the {@code single-flight.calls} counter,
+ * by name and by outcome: {@code executed}, {@code coalesced} or {@code timed-out}.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class SingleFlight {
+
+	private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+	private final Duration timeout;
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Creates the single flight.
+	 *
+	 * @param timeout       The maximum duration a call waits for the call in flight.
+	 * @param meterRegistry The registry publishing the calls.
+	 */
+	public SingleFlight(Duration timeout, MeterRegistry meterRegistry) {
+		this.timeout = timeout;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Executes a call, or waits for the outcome of the call of the same key in flight.
+	 *
+	 * @param name The name of the call, in the metrics.
+	 * @param key  The key of the call, the calls with equal keys are coalesced.
+	 * @param call The call.
+	 * @return The result of the call.
+	 * @throws Throwable The exception of the call.
+	 */
+	public Object execute(String name, Object key, Call call) throws Throwable {
+		CompletableFuture<Object> flight = new CompletableFuture<>();
+		CompletableFuture<Object> current = inFlight.putIfAbsent(key, flight);
+		if (current == null) {
+			return lead(name, key, flight, call);
+		}
+
+		try {
+			Object result = current.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+			calls(name, "coalesced").increment();
+			return result;
+		}
+		catch (ExecutionException e) {
+			calls(name, "coalesced").increment();
+			throw e.getCause();
+		}
+		catch (TimeoutException e) {
+			calls(name, "timed-out").increment();
+			return call.call();
+		}
+	}
+
+	/**
+	 * Returns the number of keys with a call in flight.
+	 *
+	 * @return The number of calls in flight.
+	 */
+	public int inFlight() {
+		return inFlight.size();
+	}
+
+	private Object lead(String name, Object key, CompletableFuture<Object> flight, Call call) throws Throwable {
+		calls(name, "executed").increment();
+		try {
+			Object result = call.call();
+			flight.complete(result);
+			return result;
+		}
+		catch (Throwable e) {
+			flight.completeExceptionally(e);
+			throw e;
+		}
+		finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	private Counter calls(String name, String outcome) {
+		return Counter.builder("single-flight.calls")
+				.description("Calls of the coalesced reads")
+				.tag("name", name)
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * A call which may be coalesced.
+	 */
+	@FunctionalInterface
+	public interface Call {
+
+		/**
+		 * Executes the call.
+		 *
+		 * @return The result of the call.
+		 * @throws Throwable If the call fails.
+		 */
+		Object call() throws Throwable;
+
+	}
+
+}
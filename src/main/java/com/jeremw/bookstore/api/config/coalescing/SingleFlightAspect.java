@@ -0,0 +1,61 @@
+package com.jeremw.bookstore.api.config.coalescing;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aspect coalescing the concurrent identical calls of the {@link Coalesced} reads.
+ *
+ * <p>
+ * It runs before the transaction is opened, so the waiting calls do not hold a
+ * connection. A call joining a read in flight may miss a write committed after that read
+ * started, as a read from the replica may.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Aspect
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class SingleFlightAspect {
+
+	private final SingleFlight singleFlight;
+
+	/**
+	 * Executes a coalesced read once for the concurrent calls with the same arguments.
+	 *
+	 * @param joinPoint The intercepted read.
+	 * @return The result of the read.
+	 * @throws Throwable If the read fails.
+	 */
+	@Around("@annotation(com.jeremw.bookstore.api.config.coalescing.Coalesced)")
+	public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return joinPoint.proceed();
+		}
+
+		Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+		String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+		return singleFlight.execute(name, new Key(method, Arrays.asList(joinPoint.getArgs())), joinPoint::proceed);
+	}
+
+	/**
+	 * The key of a call, its method and its arguments.
+	 */
+	private record Key(Method method, List<Object> args) {
+	}
+
+}
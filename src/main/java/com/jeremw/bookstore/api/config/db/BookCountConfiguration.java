@@ -0,0 +1,48 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.jeremw.bookstore.api.config.shard.ShardDataSources;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class of the reconciliation of the user book counts.
+ *
+ * <p>
+ * The counts are read from the application database, and the books from every shard
+ * when the books are sharded.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Configuration
+public class BookCountConfiguration {
+
+	/**
+	 * Defines the reconciler of the book counts.
+	 *
+	 * @param dataSource       The application data source.
+	 * @param shardDataSources The pools of the shards, when the books are sharded.
+	 * @param meterRegistry    The registry publishing the corrected counts.
+	 * @return The reconciler.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "book-count", name = "reconcile", matchIfMissing = true)
+	public BookCountReconciler bookCountReconciler(DataSource dataSource,
+			ObjectProvider<ShardDataSources> shardDataSources, MeterRegistry meterRegistry) {
+		ShardDataSources shards = shardDataSources.getIfAvailable();
+		List<DataSource> bookDataSources = shards == null ? List.of(dataSource) : new ArrayList<>(shards.getAll());
+		return new BookCountReconciler(dataSource, bookDataSources, meterRegistry);
+	}
+
+}
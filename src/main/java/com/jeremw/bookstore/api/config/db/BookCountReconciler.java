@@ -0,0 +1,103 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Reconciles the maintained book count of each user with the books actually stored.
+ *
+ * <p>
+ * The counts drift when a book write fails after the count was updated, which can happen
+ * with sharding, the count being updated in the directory database. The counts are read
+ * before the books are counted, and a count is only corrected if it has not changed in
+ * the meantime, so the concurrent writes are not overwritten; a count left wrong by a
+ * write still in progress is corrected by the next run.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Slf4j
+public class BookCountReconciler {
+
+	private final JdbcTemplate directory;
+
+	private final List<JdbcTemplate> bookStores;
+
+	private final Counter correctedCounts;
+
+	/**
+	 * Creates the reconciler.
+	 *
+	 * @param directoryDataSource The database of the users.
+	 * @param bookDataSources     The databases of the books, one per shard.
+	 * @param meterRegistry       The registry publishing the corrected counts.
+	 */
+	public BookCountReconciler(DataSource directoryDataSource, List<DataSource> bookDataSources,
+			MeterRegistry meterRegistry) {
+		this.directory = new JdbcTemplate(directoryDataSource);
+		this.bookStores = bookDataSources.stream().map(JdbcTemplate::new).toList();
+		this.correctedCounts = Counter.builder("book.count.corrected")
+				.description("User book counts corrected by the reconciliation")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Corrects the book counts which differ from the stored books.
+	 *
+	 * @return The number of corrected counts.
+	 */
+	@Scheduled(fixedDelayString = "${book-count.reconcile-interval:PT1H}",
+			initialDelayString = "${book-count.reconcile-interval:PT1H}")
+	public synchronized int reconcile() {
+		Map<Long, Long> counts = new HashMap<>();
+		directory.query("select user_id, book_count from user_book_count",
+				rs -> {
+					counts.put(rs.getLong(1), rs.getLong(2));
+				});
+		List<Long> usersWithoutCount = directory.queryForList(
+				"select id from user_app where id not in (select user_id from user_book_count)", Long.class);
+
+		Map<Long, Long> books = new HashMap<>();
+		for (JdbcTemplate bookStore : bookStores) {
+			bookStore.query("select user_id, count(*) from book where deleted = false group by user_id",
+					rs -> {
+						books.merge(rs.getLong(1), rs.getLong(2), Long::sum);
+					});
+		}
+
+		int corrected = 0;
+		for (Map.Entry<Long, Long> count : counts.entrySet()) {
+			long expected = books.getOrDefault(count.getKey(), 0L);
+			if (expected != count.getValue()) {
+				corrected += directory.update(
+						"update user_book_count set book_count = ? where user_id = ? and book_count = ?", expected,
+						count.getKey(), count.getValue());
+			}
+		}
+		for (Long userId : usersWithoutCount) {
+			corrected += directory.update("""
+					insert into user_book_count (user_id, book_count)
+					select id, ? from user_app where id = ? and id not in (select user_id from user_book_count)
+					""", books.getOrDefault(userId, 0L), userId);
+		}
+
+		if (corrected > 0) {
+			log.info("Corrected the book count of {} users", corrected);
+		}
+		correctedCounts.increment(corrected);
+		return corrected;
+	}
+
+}
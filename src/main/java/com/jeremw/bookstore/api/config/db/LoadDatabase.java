@@ -1,6 +1,6 @@
 package com.jeremw.bookstore.api.config.db;
 
-import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserRepository;
 import com.jeremw.bookstore.api.user.UserService;
 import com.jeremw.bookstore.api.user.dto.CreateUserForm;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +19,12 @@ import org.springframework.context.annotation.Configuration;
  * during application runtime.
  * </p>
  *
+ * <p>
+ * The default users are only created when they are missing, so a persistent database is
+ * kept as is across restarts. A deleted root user is not created again before it is
+ * purged, as it still holds its username.
+ * </p>
+ *
  * @author Jérémy Woirhaye
  * @version 1.0
  * @since 11/05/2024
@@ -30,6 +36,8 @@ public class LoadDatabase {
 
 	private final UserService userService;
 
+	private final UserRepository userRepository;
+
 	/**
 	 * Bean definition for initializing the database with default data.
 	 *
@@ -38,6 +46,11 @@ public class LoadDatabase {
 	@Bean
 	CommandLineRunner initDatabase() {
 		return args -> {
+			if (userRepository.existsByUsername("root")) {
+				log.info("Database already initialized, skipping the default data");
+				return;
+			}
+
 			log.info("Init Database");
 
 			CreateUserForm createUserForm = CreateUserForm.builder()
@@ -46,7 +59,7 @@ public class LoadDatabase {
 					.password("toor")
 					.build();
 
-			User user = userService.createUser(createUserForm);
+			userService.createUser(createUserForm);
 
 			log.info("Load Database Finished");
 		};
@@ -0,0 +1,96 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.util.List;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Feeds a local H2 replica from the primary, standing in for the database replication
+ * when both run in memory on a development machine.
+ *
+ * <p>
+ * The replica is migrated like the primary and every table of the primary is linked in
+ * the {@code REPLICATION_SOURCE} schema of the replica. At each run, the content of each
+ * table is copied from its linked table in a single transaction, so the readers of the
+ * replica see either the previous or the new copy. The heartbeat table is copied along,
+ * which makes the lag measured by {@link ReplicaLagMonitor} reflect the feed interval.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class LocalReplicaFeeder {
+
+	private static final String SOURCE_SCHEMA = "REPLICATION_SOURCE";
+
+	private final HikariDataSource primaryDataSource;
+
+	private final JdbcTemplate replicaJdbcTemplate;
+
+	private final TransactionTemplate replicaTransactionTemplate;
+
+	private List<String> tables;
+
+	public LocalReplicaFeeder(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+		this.primaryDataSource = primaryDataSource;
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.replicaTransactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(replicaDataSource));
+	}
+
+	/**
+	 * Copies the content of the primary to the replica.
+	 */
+	@Scheduled(fixedDelayString = "${datasource.replica.local-feed.interval:PT0.5S}")
+	public synchronized void feed() {
+		if (tables == null) {
+			tables = initializeReplica();
+		}
+
+		replicaTransactionTemplate.executeWithoutResult(status -> {
+			replicaJdbcTemplate.execute("set referential_integrity false");
+			try {
+				for (String table : tables) {
+					replicaJdbcTemplate.update("delete from " + table);
+					replicaJdbcTemplate.update("insert into " + table + " select * from " + SOURCE_SCHEMA + "." + table);
+				}
+			}
+			finally {
+				replicaJdbcTemplate.execute("set referential_integrity true");
+			}
+		});
+	}
+
+	private List<String> initializeReplica() {
+		log.info("Initializing the local replica {} from {}", replicaJdbcTemplate.getDataSource(),
+				primaryDataSource.getJdbcUrl());
+
+		Flyway.configure().dataSource(replicaJdbcTemplate.getDataSource()).load().migrate();
+
+		List<String> replicatedTables = replicaJdbcTemplate.queryForList("""
+				select table_name from information_schema.tables
+				where table_schema = 'PUBLIC' and table_type = 'BASE TABLE' and table_name <> 'flyway_schema_history'
+				""", String.class);
+
+		replicaJdbcTemplate.execute("create schema if not exists " + SOURCE_SCHEMA);
+		for (String table : replicatedTables) {
+			replicaJdbcTemplate.execute("create linked table if not exists " + SOURCE_SCHEMA + "." + table + "(null, "
+					+ literal(primaryDataSource.getJdbcUrl()) + ", " + literal(primaryDataSource.getUsername()) + ", "
+					+ literal(primaryDataSource.getPassword()) + ", 'PUBLIC', " + literal(table) + ") readonly");
+		}
+		return replicatedTables;
+	}
+
+	private static String literal(String value) {
+		return "'" + (value == null ? "" : value.replace("'", "''")) + "'";
+	}
+
+}
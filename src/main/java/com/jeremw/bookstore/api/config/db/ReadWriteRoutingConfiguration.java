@@ -0,0 +1,120 @@
+package com.jeremw.bookstore.api.config.db;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Configuration class routing the read-only transactions to a read replica.
+ *
+ * <p>
+ * The primary pool is configured by the usual {@code spring.datasource} properties and
+ * the replica pool by {@link ReplicaProperties}. The application data source routes each
+ * connection according to the transaction it is opened for; the migrations always run on
+ * the primary.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled")
+public class ReadWriteRoutingConfiguration {
+
+	private final ReplicaProperties replicaProperties;
+
+	/**
+	 * Defines the connection pool of the primary database.
+	 *
+	 * @param dataSourceProperties The properties of the primary database.
+	 * @return The pool of the primary.
+	 */
+	@Bean
+	@FlywayDataSource
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 * Defines the connection pool of the replica.
+	 *
+	 * @return The pool of the replica.
+	 */
+	@Bean
+	@ConfigurationProperties("datasource.replica.hikari")
+	public HikariDataSource replicaDataSource() {
+		return DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(replicaProperties.getUrl())
+				.username(replicaProperties.getUsername())
+				.password(replicaProperties.getPassword())
+				.build();
+	}
+
+	/**
+	 * Defines the monitor of the replica lag.
+	 *
+	 * @param primaryDataSource The pool of the primary.
+	 * @param replicaDataSource The pool of the replica.
+	 * @param meterRegistry     The registry publishing the lag.
+	 * @return The monitor of the replica lag.
+	 */
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+			@Qualifier("replicaDataSource") HikariDataSource replicaDataSource, MeterRegistry meterRegistry) {
+		return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, replicaProperties.getMaxLag(),
+				meterRegistry);
+	}
+
+	/**
+	 * Defines the application data source, routing the connections between the primary and
+	 * the replica.
+	 *
+	 * @param primaryDataSource The pool of the primary.
+	 * @param replicaDataSource The pool of the replica.
+	 * @param replicaLagMonitor The monitor of the replica lag.
+	 * @return The routing data source.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+			@Qualifier("replicaDataSource") HikariDataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+		ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(primaryDataSource,
+				replicaDataSource, replicaLagMonitor);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+	/**
+	 * Defines the feed of a local replica, when no database replication is available.
+	 *
+	 * @param primaryDataSource The pool of the primary.
+	 * @param replicaDataSource The pool of the replica.
+	 * @return The feeder of the replica.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "datasource.replica.local-feed", name = "enabled")
+	public LocalReplicaFeeder localReplicaFeeder(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+			@Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+		return new LocalReplicaFeeder(primaryDataSource, replicaDataSource);
+	}
+
+}
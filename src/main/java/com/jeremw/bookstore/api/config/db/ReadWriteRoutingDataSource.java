@@ -0,0 +1,55 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source sending the read-only transactions to the replica and everything else to
+ * the primary.
+ *
+ * <p>
+ * The route is decided when a connection is requested, so this data source must be
+ * wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager opens the connection before the read-only flag of the
+ * transaction is published.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+
+	public ReadWriteRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+			ReplicaLagMonitor replicaLagMonitor) {
+		this.replicaLagMonitor = replicaLagMonitor;
+		setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+		setDefaultTargetDataSource(primaryDataSource);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaUsable()) {
+			return Route.REPLICA;
+		}
+		return Route.PRIMARY;
+	}
+
+	/**
+	 * The data sources a connection can be routed to.
+	 */
+	public enum Route {
+
+		PRIMARY,
+
+		REPLICA
+
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Measures the lag of the replica and decides whether it may serve the reads.
+ *
+ * <p>
+ * A heartbeat timestamp is written on the primary at a fixed interval and read back on the
+ * replica; the lag is the age of the heartbeat seen by the replica. While the lag exceeds
+ * {@code datasource.replica.max-lag}, or when the replica cannot be reached, the reads are
+ * served by the primary. The lag is published as the {@code datasource.replica.lag} gauge.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private final JdbcTemplate primaryJdbcTemplate;
+
+	private final JdbcTemplate replicaJdbcTemplate;
+
+	private final Duration maxLag;
+
+	private volatile Duration lag;
+
+	private volatile boolean replicaUsable;
+
+	public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag,
+			MeterRegistry meterRegistry) {
+		this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.maxLag = maxLag;
+
+		Gauge.builder("datasource.replica.lag", this,
+						monitor -> monitor.lag == null ? Double.NaN : monitor.lag.toNanos() / 1e9)
+				.description("Age of the last heartbeat replicated to the read replica")
+				.baseUnit("seconds")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Returns whether the replica is close enough to the primary to serve the reads.
+	 *
+	 * @return {@code true} if the reads may be routed to the replica.
+	 */
+	public boolean isReplicaUsable() {
+		return replicaUsable;
+	}
+
+	/**
+	 * Returns the last measured lag of the replica.
+	 *
+	 * @return The lag, or {@code null} if the replica could not be reached.
+	 */
+	public Duration getLag() {
+		return lag;
+	}
+
+	/**
+	 * Writes a heartbeat on the primary and measures the lag of the replica.
+	 */
+	@Scheduled(fixedDelayString = "${datasource.replica.heartbeat-interval:PT1S}")
+	public void heartbeat() {
+		OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+		try {
+			primaryJdbcTemplate.update("update replication_heartbeat set beat_at = ? where id = 1", now);
+		}
+		catch (DataAccessException e) {
+			log.warn("Unable to write the replication heartbeat: {}", e.getMessage());
+		}
+
+		try {
+			OffsetDateTime replicatedBeat = replicaJdbcTemplate.queryForObject(
+					"select beat_at from replication_heartbeat where id = 1", OffsetDateTime.class);
+			lag = replicatedBeat == null ? null : Duration.between(replicatedBeat, now);
+		}
+		catch (DataAccessException e) {
+			lag = null;
+		}
+
+		boolean usable = lag != null && lag.compareTo(maxLag) <= 0;
+		if (usable != replicaUsable) {
+			if (usable) {
+				log.info("Replica lag is {} ms, reads are routed to the replica", lag.toMillis());
+			}
+			else {
+				log.warn("Replica lag is {}, reads fall back to the primary",
+						lag == null ? "unknown" : lag.toMillis() + " ms");
+			}
+			replicaUsable = usable;
+		}
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the read replica serving the read-only transactions.
+ *
+ * <p>
+ * The pool of the replica is configured under {@code datasource.replica.hikari}, like the
+ * primary pool under {@code spring.datasource.hikari}.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+
+	/**
+	 * Whether read-only transactions are routed to the replica.
+	 */
+	private boolean enabled = false;
+
+	private String url;
+
+	private String username;
+
+	private String password;
+
+	/**
+	 * The lag above which the reads fall back to the primary.
+	 */
+	private Duration maxLag = Duration.ofSeconds(5);
+
+	/**
+	 * Feeds the replica from the primary, to run two local H2 databases without a real
+	 * replication.
+	 */
+	private LocalFeed localFeed = new LocalFeed();
+
+	/**
+	 * Settings of the local feed of the replica.
+	 */
+	@Data
+	public static class LocalFeed {
+
+		private boolean enabled = false;
+
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import javax.sql.DataSource;
+
+import com.jeremw.bookstore.api.config.security.ErrorResponseRenderer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class of the idempotent replay of the creations.
+ *
+ * <p>
+ * The keys are kept in memory by default. With {@code idempotency.store=jdbc}, they are
+ * kept in the application database, which routes the connections opened outside of a
+ * book operation to the directory database, or to the primary: the nodes then share the
+ * keys and a retry reaching another node is replayed too.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", matchIfMissing = true)
+public class IdempotencyConfiguration {
+
+	private final IdempotencyProperties idempotencyProperties;
+
+	/**
+	 * Defines the store of the keys in memory.
+	 *
+	 * @param meterRegistry The registry publishing the metrics of the keys cache.
+	 * @return The in-memory store.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+	public InMemoryIdempotencyStore inMemoryIdempotencyStore(MeterRegistry meterRegistry) {
+		InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(idempotencyProperties.getMaxKeys(),
+				idempotencyProperties.getTtl());
+		CaffeineCacheMetrics.monitor(meterRegistry, store.getEntries(), "idempotency-keys");
+		return store;
+	}
+
+	/**
+	 * Defines the store of the keys in the database.
+	 *
+	 * @param dataSource The application data source.
+	 * @return The database store.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "idempotency", name = "store", havingValue = "jdbc")
+	public JdbcIdempotencyStore jdbcIdempotencyStore(DataSource dataSource) {
+		return new JdbcIdempotencyStore(dataSource, idempotencyProperties.getTtl(),
+				idempotencyProperties.getInFlightTimeout());
+	}
+
+	/**
+	 * Defines the filter honouring the idempotency keys.
+	 *
+	 * @param idempotencyStore      The store of the keys.
+	 * @param errorResponseRenderer The renderer of the error responses.
+	 * @param meterRegistry         The registry publishing the idempotent requests.
+	 * @return An instance of IdempotencyFilter.
+	 */
+	@Bean
+	public IdempotencyFilter idempotencyFilter(IdempotencyStore idempotencyStore,
+			ErrorResponseRenderer errorResponseRenderer, MeterRegistry meterRegistry) {
+		return new IdempotencyFilter(idempotencyProperties.getPaths(), idempotencyStore,
+				idempotencyProperties.getWaitTimeout(), errorResponseRenderer, meterRegistry);
+	}
+
+}
@@ -0,0 +1,275 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import com.jeremw.bookstore.api.config.security.ErrorResponseRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Filter executing the creations carrying an {@code Idempotency-Key} header at most once.
+ *
+ * <p>
+ * The key is scoped by the authenticated user, the method and the path, and the request
+ * body is fingerprinted: a retry with the same key and body gets the recorded response
+ * again, marked by the {@code Idempotent-Replayed} header, a retry with another body is
+ * rejected. A retry arriving while the first request is in flight waits for its response
+ * instead of executing again. The server errors are not recorded, a retry executes the
+ * request again.
+ * </p>
+ *
+ * <p>
+ * The filter runs after the security filters, so the key is claimed for an authenticated
+ * user only.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	/**
+	 * The header carrying the idempotency key of a request.
+	 */
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	/**
+	 * The header marking a replayed response.
+	 */
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	private final List<String> paths;
+
+	private final IdempotencyStore idempotencyStore;
+
+	private final Duration waitTimeout;
+
+	private final ErrorResponseRenderer errorResponseRenderer;
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param paths                 The paths of the POST endpoints accepting a key.
+	 * @param idempotencyStore      The store of the keys.
+	 * @param waitTimeout           The maximum duration a retry waits for the request in flight.
+	 * @param errorResponseRenderer The renderer of the error responses.
+	 * @param meterRegistry         The registry publishing the idempotent requests.
+	 */
+	public IdempotencyFilter(List<String> paths, IdempotencyStore idempotencyStore, Duration waitTimeout,
+			ErrorResponseRenderer errorResponseRenderer, MeterRegistry meterRegistry) {
+		this.paths = paths;
+		this.idempotencyStore = idempotencyStore;
+		this.waitTimeout = waitTimeout;
+		this.errorResponseRenderer = errorResponseRenderer;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		if (!HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null) {
+			return true;
+		}
+		String path = URL_PATH_HELPER.getPathWithinApplication(request);
+		return paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+	}
+
+	/**
+	 * Executes the request once for its key, or replays the recorded response.
+	 *
+	 * @param request     the HTTP servlet request
+	 * @param response    the HTTP servlet response
+	 * @param filterChain the filter chain for invoking the next filter in the chain
+	 * @throws ServletException if a servlet-specific error occurs while handling the
+	 *                          request
+	 * @throws IOException      if an I/O error occurs while processing the request
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			errorResponseRenderer.render(response, "InvalidIdempotencyKey",
+					"The idempotency key must have between 1 and " + MAX_KEY_LENGTH + " characters.",
+					HttpStatus.BAD_REQUEST, request.getRequestURL().toString());
+			return;
+		}
+
+		byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+		String key = sha256((scope(request) + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+		String owner = UUID.randomUUID().toString();
+		IdempotentResponse recorded;
+		try {
+			recorded = idempotencyStore.claim(key, owner, sha256(body), waitTimeout);
+		}
+		catch (IdempotencyKeyException e) {
+			requests(e.getStatus() == HttpStatus.CONFLICT ? "timed-out" : "rejected").increment();
+			errorResponseRenderer.render(response, e.getErrorCode(), e.getMessage(), e.getStatus(),
+					request.getRequestURL().toString());
+			return;
+		}
+
+		if (recorded != null) {
+			requests("replayed").increment();
+			replay(recorded, response);
+			return;
+		}
+
+		requests("executed").increment();
+		ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+		boolean completed = false;
+		try {
+			filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+			if (responseWrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+				completed = true;
+				if (!idempotencyStore.complete(key, owner, new IdempotentResponse(responseWrapper.getStatus(),
+						responseWrapper.getContentType(), responseWrapper.getHeader(HttpHeaders.LOCATION),
+						responseWrapper.getContentAsByteArray()))) {
+					log.warn("The idempotency key of {} was taken over before its response was recorded",
+							request.getRequestURI());
+				}
+			}
+		}
+		finally {
+			if (!completed) {
+				idempotencyStore.release(key, owner);
+			}
+		}
+		responseWrapper.copyBodyToResponse();
+	}
+
+	private static void replay(IdempotentResponse recorded, HttpServletResponse response) throws IOException {
+		response.setStatus(recorded.status());
+		if (recorded.contentType() != null) {
+			response.setContentType(recorded.contentType());
+		}
+		if (recorded.location() != null) {
+			response.setHeader(HttpHeaders.LOCATION, recorded.location());
+		}
+		response.setHeader(REPLAYED_HEADER, "true");
+		response.setContentLength(recorded.body().length);
+		response.getOutputStream().write(recorded.body());
+	}
+
+	private static String scope(HttpServletRequest request) {
+		Principal principal = request.getUserPrincipal();
+		return (principal == null ? "" : principal.getName()) + " " + request.getMethod() + " "
+				+ URL_PATH_HELPER.getPathWithinApplication(request) + " ";
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private Counter requests(String outcome) {
+		return Counter.builder("idempotency.requests")
+				.description("Requests carrying an idempotency key")
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Request serving the body read to fingerprint it.
+	 */
+	private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+		private final byte[] body;
+
+		CachedBodyRequest(HttpServletRequest request, byte[] body) {
+			super(request);
+			this.body = body;
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+
+				@Override
+				public int read() {
+					return inputStream.read();
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) {
+					return inputStream.read(b, off, len);
+				}
+
+				@Override
+				public boolean isFinished() {
+					return inputStream.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				/**
+				 * Rejects the read listener, as a container would outside of async mode: the
+				 * body is read whole by the filter before the chain, so the handler only ever
+				 * reads it from memory on the request thread.
+				 *
+				 * @param readListener The read listener.
+				 */
+				@Override
+				public void setReadListener(ReadListener readListener) {
+					throw new IllegalStateException("Non-blocking reads are not supported on a cached request body");
+				}
+
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			String characterEncoding = getCharacterEncoding();
+			Charset charset = characterEncoding == null ? StandardCharsets.UTF_8 : Charset.forName(characterEncoding);
+			return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+		}
+
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import com.jeremw.bookstore.api.exception.ResourceException;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a request cannot be executed nor replayed for its idempotency key.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class IdempotencyKeyException extends ResourceException {
+
+	/**
+	 * Constructs a new IdempotencyKeyException with the specified error code, error
+	 * message, and HTTP status.
+	 *
+	 * @param errorCode    The error code associated with the exception.
+	 * @param errorMessage The error message providing details about the exception.
+	 * @param status       The HTTP status code associated with the exception.
+	 */
+	public IdempotencyKeyException(String errorCode, String errorMessage, HttpStatus status) {
+		super(errorCode, errorMessage, status);
+	}
+
+	/**
+	 * Creates the exception of a key reused with another request body.
+	 *
+	 * @return The exception.
+	 */
+	static IdempotencyKeyException mismatch() {
+		return new IdempotencyKeyException("IdempotencyKeyMismatch",
+				"The idempotency key was already used with another request.", HttpStatus.UNPROCESSABLE_ENTITY);
+	}
+
+	/**
+	 * Creates the exception of a retry which waited too long for the request in flight.
+	 *
+	 * @return The exception.
+	 */
+	static IdempotencyKeyException inProgress() {
+		return new IdempotencyKeyException("IdempotencyKeyInProgress",
+				"A request with the same idempotency key is still in progress.", HttpStatus.CONFLICT);
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the idempotent replay of the creations.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+	/**
+	 * Whether the {@code Idempotency-Key} header is honoured.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The paths of the POST endpoints accepting an idempotency key, relative to the
+	 * context path, may use {@code *} for a path segment.
+	 */
+	private List<String> paths = new ArrayList<>(List.of("/users", "/users/*/books"));
+
+	/**
+	 * Where the keys and their responses are kept.
+	 */
+	private Store store = Store.MEMORY;
+
+	/**
+	 * The duration a key and its response are kept, from the first request.
+	 */
+	private Duration ttl = Duration.ofHours(24);
+
+	/**
+	 * The maximum number of keys kept by the in-memory store.
+	 */
+	private long maxKeys = 10_000;
+
+	/**
+	 * The maximum duration a retry waits for the request in flight with the same key.
+	 */
+	private Duration waitTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * The duration after which a key still in flight in the database is considered
+	 * abandoned, by a node which stopped, and is taken over by the next request.
+	 */
+	private Duration inFlightTimeout = Duration.ofMinutes(1);
+
+	/**
+	 * The delay between two deletions of the expired keys from the database.
+	 */
+	private Duration purgeInterval = Duration.ofMinutes(1);
+
+	/**
+	 * The stores of the idempotency keys.
+	 */
+	public enum Store {
+
+		/**
+		 * A bounded cache of the node, the keys are lost on restart and not shared between
+		 * the nodes.
+		 */
+		MEMORY,
+
+		/**
+		 * The {@code idempotency_key} table of the application database, shared by the nodes.
+		 */
+		JDBC
+
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import java.time.Duration;
+
+/**
+ * Store of the idempotency keys, of the requests in flight and of their responses.
+ *
+ * <p>
+ * A key is claimed by the first request carrying it. The other requests with the same key
+ * wait until the response is recorded and replay it, or claim the key themselves when the
+ * first request released it without a response.
+ * </p>
+ *
+ * <p>
+ * Each claim is made by an owner, which alone may complete or release it. A request
+ * still running after its key was taken over therefore neither records its response over
+ * the one of the new owner nor releases its key.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public interface IdempotencyStore {
+
+	/**
+	 * Claims a key, or waits for the response of the request holding it.
+	 *
+	 * @param key         The scoped idempotency key.
+	 * @param owner       The token of the request claiming the key.
+	 * @param fingerprint The digest of the request body.
+	 * @param timeout     The maximum duration to wait for the request holding the key.
+	 * @return The recorded response, or null when the key was claimed by the caller, which
+	 *         must then {@link #complete complete} or {@link #release release} it.
+	 * @throws IdempotencyKeyException If the key was used with another body, or if the
+	 *                                 request holding it did not complete in time.
+	 */
+	IdempotentResponse claim(String key, String owner, String fingerprint, Duration timeout)
+			throws IdempotencyKeyException;
+
+	/**
+	 * Records the response of a claimed key, and hands it to the waiting requests.
+	 *
+	 * @param key      The scoped idempotency key.
+	 * @param owner    The token of the request which claimed the key.
+	 * @param response The response to replay.
+	 * @return Whether the response was recorded, false when the key is no longer owned.
+	 */
+	boolean complete(String key, String owner, IdempotentResponse response);
+
+	/**
+	 * Releases a claimed key without a response, so that a retry executes the request again.
+	 *
+	 * @param key   The scoped idempotency key.
+	 * @param owner The token of the request which claimed the key.
+	 */
+	void release(String key, String owner);
+
+}
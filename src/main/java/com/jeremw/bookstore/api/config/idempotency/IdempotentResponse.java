@@ -0,0 +1,16 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+/**
+ * The response recorded for an idempotency key, sent again to the retries.
+ *
+ * @param status      The HTTP status of the response.
+ * @param contentType The content type of the body, may be null.
+ * @param location    The Location header of a created resource, may be null.
+ * @param body        The body of the response.
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public record IdempotentResponse(int status, String contentType, String location, byte[] body) {
+
+}
@@ -0,0 +1,114 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Store of the idempotency keys in a bounded cache of the node.
+ *
+ * <p>
+ * The requests waiting for a key in flight wait on its future, without polling. The keys
+ * in flight weigh nothing, so that they are never evicted by the size bound before their
+ * response is recorded; the recorded responses are evicted by size and expire after the
+ * time to live.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+	private final Cache<String, Entry> entries;
+
+	/**
+	 * Creates the store.
+	 *
+	 * @param maxKeys The maximum number of recorded responses.
+	 * @param ttl     The duration a key is kept.
+	 */
+	public InMemoryIdempotencyStore(long maxKeys, Duration ttl) {
+		this.entries = Caffeine.newBuilder()
+				.maximumWeight(maxKeys)
+				.<String, Entry>weigher((key, entry) -> entry.response().isDone() ? 1 : 0)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * Returns the cache of the keys, to publish its metrics.
+	 *
+	 * @return The cache of the keys.
+	 */
+	Cache<String, ?> getEntries() {
+		return entries;
+	}
+
+	@Override
+	public IdempotentResponse claim(String key, String owner, String fingerprint, Duration timeout)
+			throws IdempotencyKeyException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		Entry claimed = new Entry(owner, fingerprint, new CompletableFuture<>());
+		while (true) {
+			Entry entry = entries.asMap().putIfAbsent(key, claimed);
+			if (entry == null) {
+				return null;
+			}
+			if (!entry.fingerprint().equals(fingerprint)) {
+				throw IdempotencyKeyException.mismatch();
+			}
+
+			IdempotentResponse response = await(entry, deadline);
+			if (response != null) {
+				return response;
+			}
+		}
+	}
+
+	@Override
+	public boolean complete(String key, String owner, IdempotentResponse response) {
+		Entry entry = entries.getIfPresent(key);
+		if (entry == null || !entry.owner().equals(owner)) {
+			return false;
+		}
+		entry.response().complete(response);
+		entries.put(key, entry);
+		return true;
+	}
+
+	@Override
+	public void release(String key, String owner) {
+		Entry entry = entries.getIfPresent(key);
+		if (entry != null && entry.owner().equals(owner) && entries.asMap().remove(key, entry)) {
+			entry.response().complete(null);
+		}
+	}
+
+	private static IdempotentResponse await(Entry entry, long deadline) throws IdempotencyKeyException {
+		try {
+			return entry.response().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException | ExecutionException e) {
+			throw IdempotencyKeyException.inProgress();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw IdempotencyKeyException.inProgress();
+		}
+	}
+
+	/**
+	 * A key, with its owner, the digest of the body of its first request and its future
+	 * response. The response completes to null when the key is released.
+	 */
+	private record Entry(String owner, String fingerprint, CompletableFuture<IdempotentResponse> response) {
+	}
+
+}
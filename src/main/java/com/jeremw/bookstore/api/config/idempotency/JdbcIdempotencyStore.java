@@ -0,0 +1,170 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Store of the idempotency keys in the {@code idempotency_key} table, shared by the nodes.
+ *
+ * <p>
+ * A key is claimed by inserting its row, the primary key rejecting the duplicates. The
+ * requests waiting for a key in flight poll its row with a growing pause until the
+ * response is recorded. A key in flight for longer than the in-flight timeout was
+ * abandoned by a stopped node and is taken over; the row records the owner of the claim,
+ * so a request still running after the takeover can neither complete nor release it. The
+ * expired keys are deleted periodically.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+	private static final long MIN_POLL_MILLIS = 20;
+
+	private static final long MAX_POLL_MILLIS = 500;
+
+	private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> {
+		int status = rs.getInt("response_status");
+		IdempotentResponse response = rs.wasNull() ? null : new IdempotentResponse(status,
+				rs.getString("content_type"), rs.getString("location"), rs.getBytes("body"));
+		return new Row(rs.getString("fingerprint"), response, rs.getObject("created_at", OffsetDateTime.class));
+	};
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final Duration ttl;
+
+	private final Duration inFlightTimeout;
+
+	/**
+	 * Creates the store.
+	 *
+	 * @param dataSource      The application database.
+	 * @param ttl             The duration a key is kept, from its first request.
+	 * @param inFlightTimeout The duration after which a key in flight is taken over.
+	 */
+	public JdbcIdempotencyStore(DataSource dataSource, Duration ttl, Duration inFlightTimeout) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.ttl = ttl;
+		this.inFlightTimeout = inFlightTimeout;
+	}
+
+	@Override
+	public IdempotentResponse claim(String key, String owner, String fingerprint, Duration timeout)
+			throws IdempotencyKeyException {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		long pauseMillis = MIN_POLL_MILLIS;
+		while (true) {
+			OffsetDateTime now = OffsetDateTime.now();
+			try {
+				jdbcTemplate.update("""
+						insert into idempotency_key (idempotency_key, owner, fingerprint, created_at) values (?, ?, ?, ?)
+						""", key, owner, fingerprint, now);
+				return null;
+			}
+			catch (DuplicateKeyException e) {
+				// Claimed by another request, see below
+			}
+
+			List<Row> rows = jdbcTemplate.query("""
+					select fingerprint, response_status, content_type, location, body, created_at
+					from idempotency_key where idempotency_key = ?
+					""", ROW_MAPPER, key);
+			if (rows.isEmpty()) {
+				continue;
+			}
+
+			Row row = rows.get(0);
+			if (row.createdAt().isBefore(now.minus(ttl))) {
+				jdbcTemplate.update("delete from idempotency_key where idempotency_key = ? and created_at = ?", key,
+						row.createdAt());
+				continue;
+			}
+			if (!row.fingerprint().equals(fingerprint)) {
+				throw IdempotencyKeyException.mismatch();
+			}
+			if (row.response() != null) {
+				return row.response();
+			}
+			if (row.createdAt().isBefore(now.minus(inFlightTimeout))) {
+				log.warn("Taking over the abandoned idempotency key {}", key);
+				jdbcTemplate.update("""
+						delete from idempotency_key
+						where idempotency_key = ? and response_status is null and created_at = ?
+						""", key, row.createdAt());
+				continue;
+			}
+
+			long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			if (remainingMillis <= 0) {
+				throw IdempotencyKeyException.inProgress();
+			}
+			pause(Math.min(pauseMillis, remainingMillis));
+			pauseMillis = Math.min(pauseMillis * 2, MAX_POLL_MILLIS);
+		}
+	}
+
+	@Override
+	public boolean complete(String key, String owner, IdempotentResponse response) {
+		int updated = jdbcTemplate.update("""
+				update idempotency_key set response_status = ?, content_type = ?, location = ?, body = ?
+				where idempotency_key = ? and owner = ? and response_status is null
+				""", response.status(), response.contentType(), response.location(), response.body(), key, owner);
+		return updated > 0;
+	}
+
+	@Override
+	public void release(String key, String owner) {
+		jdbcTemplate.update("""
+				delete from idempotency_key where idempotency_key = ? and owner = ? and response_status is null
+				""", key, owner);
+	}
+
+	/**
+	 * Deletes the expired keys.
+	 */
+	@Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1M}")
+	public void purgeExpired() {
+		try {
+			int deleted = jdbcTemplate.update("delete from idempotency_key where created_at < ?",
+					OffsetDateTime.now().minus(ttl));
+			if (deleted > 0) {
+				log.info("Purged {} expired idempotency keys", deleted);
+			}
+		}
+		catch (RuntimeException e) {
+			log.warn("Error while purging the expired idempotency keys: {}", e.getMessage());
+		}
+	}
+
+	private static void pause(long millis) throws IdempotencyKeyException {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw IdempotencyKeyException.inProgress();
+		}
+	}
+
+	/**
+	 * A row of the table, with its response when recorded.
+	 */
+	private record Row(String fingerprint, IdempotentResponse response, OffsetDateTime createdAt) {
+	}
+
+}
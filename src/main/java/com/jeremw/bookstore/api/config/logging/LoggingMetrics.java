@@ -0,0 +1,32 @@
+package com.jeremw.bookstore.api.config.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the metrics of the asynchronous logging pipeline.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("logging.events.dropped", MeteredAsyncAppender.class,
+						appender -> MeteredAsyncAppender.getDroppedCount())
+				.description("Log events dropped because the asynchronous queue was full")
+				.register(registry);
+
+		FunctionCounter.builder("logging.events.sampled", SamplingTurboFilter.class,
+						filter -> SamplingTurboFilter.getSampledOutCount())
+				.description("Log events skipped by the per-category sampling")
+				.register(registry);
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.jeremw.bookstore.api.config.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback asynchronous appender counting the events it drops.
+ *
+ * <p>
+ * Events are queued in a bounded ring buffer and written by a background thread, so the
+ * request thread never waits on the console. When the queue is almost full, events up to
+ * {@code INFO} are discarded (see {@code discardingThreshold}); when it is full, the
+ * {@code neverBlock} policy decides between dropping the event or waiting for room. The
+ * drop counter is computed from the queue state before the event is offered and is
+ * therefore an approximation under heavy contention.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+	private static final AtomicLong DROPPED = new AtomicLong();
+
+	/**
+	 * Returns the number of events dropped since the application started.
+	 *
+	 * @return The number of dropped events.
+	 */
+	public static long getDroppedCount() {
+		return DROPPED.get();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		if (isStarted() && willDrop(event)) {
+			DROPPED.incrementAndGet();
+		}
+		super.append(event);
+	}
+
+	private boolean willDrop(ILoggingEvent event) {
+		int remainingCapacity = getRemainingCapacity();
+		return (remainingCapacity < getDiscardingThreshold() && isDiscardable(event))
+				|| (isNeverBlock() && remainingCapacity == 0);
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.jeremw.bookstore.api.config.logging;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+/**
+ * Logback turbo filter sampling the per-request logs of selected logger categories.
+ *
+ * <p>
+ * Each rule associates a logger category with the fraction of its events to keep, for
+ * example {@code com.jeremw.bookstore.api.config.security.JwtAuthFilter=0.1} keeps one
+ * event out of ten and a rate of 0 mutes the category. The most specific category
+ * applies. Only events up to {@code INFO} are sampled, warnings and errors are always
+ * logged. The decision is taken before the event is created, so sampled out events cost
+ * nothing on the request thread.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+	private static final AtomicLong SAMPLED_OUT = new AtomicLong();
+
+	private static final Rule KEEP_ALL = new Rule("", 1);
+
+	private final List<Rule> rules = new ArrayList<>();
+
+	private final Map<String, Rule> rulesByLogger = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the number of events dropped by sampling since the application started.
+	 *
+	 * @return The number of sampled out events.
+	 */
+	public static long getSampledOutCount() {
+		return SAMPLED_OUT.get();
+	}
+
+	/**
+	 * Sets the sampling rules, as a comma separated list of {@code category=rate} pairs
+	 * where the rate is between 0 and 1.
+	 *
+	 * @param rules The sampling rules.
+	 */
+	public void setRules(String rules) {
+		this.rules.clear();
+		this.rulesByLogger.clear();
+		if (rules == null || rules.isBlank()) {
+			return;
+		}
+
+		for (String rule : rules.split(",")) {
+			String[] parts = rule.trim().split("=");
+			if (parts.length != 2) {
+				addWarn("Ignoring malformed sampling rule: " + rule);
+				continue;
+			}
+			double rate;
+			try {
+				rate = Double.parseDouble(parts[1].trim());
+			}
+			catch (NumberFormatException e) {
+				addWarn("Ignoring sampling rule with a malformed rate: " + rule);
+				continue;
+			}
+			long keepOneEvery = rate <= 0 ? 0 : Math.max(1, Math.round(1 / rate));
+			this.rules.add(new Rule(parts[0].trim(), keepOneEvery));
+		}
+		this.rules.sort(Comparator.comparingInt((Rule rule) -> rule.category.length()).reversed());
+	}
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+			Throwable t) {
+		if (format == null || level.isGreaterOrEqual(Level.WARN)
+				|| !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+			return FilterReply.NEUTRAL;
+		}
+
+		Rule rule = rulesByLogger.computeIfAbsent(logger.getName(), this::findRule);
+		if (rule.keepOneEvery == 1
+				|| (rule.keepOneEvery > 1 && rule.counter.getAndIncrement() % rule.keepOneEvery == 0)) {
+			return FilterReply.NEUTRAL;
+		}
+
+		SAMPLED_OUT.incrementAndGet();
+		return FilterReply.DENY;
+	}
+
+	private Rule findRule(String loggerName) {
+		for (Rule rule : rules) {
+			if (loggerName.equals(rule.category) || loggerName.startsWith(rule.category + ".")) {
+				return rule;
+			}
+		}
+		return KEEP_ALL;
+	}
+
+	private static final class Rule {
+
+		private final String category;
+
+		private final long keepOneEvery;
+
+		private final AtomicLong counter = new AtomicLong();
+
+		private Rule(String category, long keepOneEvery) {
+			this.category = category;
+			this.keepOneEvery = keepOneEvery;
+		}
+
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Snapshot of the connection pool state and of the pool size suggested from it.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@Builder
+public class ConnectionPoolAdvice {
+
+	private String poolName;
+
+	private int maximumPoolSize;
+
+	private int minimumIdle;
+
+	private int activeConnections;
+
+	private int idleConnections;
+
+	private int pendingThreads;
+
+	/**
+	 * The length of the observation window, since the previous resize or startup.
+	 */
+	private double windowSeconds;
+
+	/**
+	 * The connections checked out per second during the window.
+	 */
+	private double acquisitionRate;
+
+	/**
+	 * The mean time a connection was held during the window.
+	 */
+	private double meanUsageMillis;
+
+	/**
+	 * The average number of connections in use during the window, by Little's law.
+	 */
+	private double averageConcurrency;
+
+	/**
+	 * The connection requests that timed out since the application started.
+	 */
+	private long acquisitionTimeouts;
+
+	private int suggestedPoolSize;
+
+}
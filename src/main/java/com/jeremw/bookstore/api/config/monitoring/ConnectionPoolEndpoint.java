@@ -0,0 +1,155 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint suggesting a connection pool size and applying it at runtime.
+ *
+ * <p>
+ * The suggestion applies Little's law to the Hikari usage timer: the average number of
+ * connections in use is the acquisition rate multiplied by the mean time a connection is
+ * held. A headroom is added on top of it for bursts and the result is bounded by the
+ * configured limits. The rate and the mean are measured since the previous resize, or
+ * since startup: reading the advice has no side effect, so that any number of readers see
+ * the same window, and only a resize starts a new one.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "connectionpool")
+public class ConnectionPoolEndpoint {
+
+	private final DataSource dataSource;
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${connection-pool.advisor.headroom:0.2}")
+	private double headroom;
+
+	@Value("${connection-pool.advisor.min-size:2}")
+	private int minSize;
+
+	@Value("${connection-pool.advisor.max-size:50}")
+	private int maxSize;
+
+	private long windowStartNanos = System.nanoTime();
+
+	private long windowStartUsageCount;
+
+	private double windowStartUsageMillis;
+
+	/**
+	 * Returns the state of the pool and the pool size suggested for the window since the
+	 * previous resize.
+	 *
+	 * @return The advice on the pool size.
+	 */
+	@ReadOperation
+	public synchronized ConnectionPoolAdvice advice() {
+		HikariDataSource hikariDataSource = hikariDataSource();
+		String poolName = hikariDataSource.getPoolName();
+
+		Timer usage = usageTimer(poolName);
+		Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").tag("pool", poolName).counter();
+
+		double windowSeconds = (System.nanoTime() - windowStartNanos) / 1e9;
+		long usageCount = usage == null ? 0 : usage.count();
+		double usageMillis = usage == null ? 0 : usage.totalTime(TimeUnit.MILLISECONDS);
+
+		long acquisitions = usageCount - windowStartUsageCount;
+		double acquisitionRate = windowSeconds > 0 ? acquisitions / windowSeconds : 0;
+		double meanUsageMillis = acquisitions > 0 ? (usageMillis - windowStartUsageMillis) / acquisitions : 0;
+		double averageConcurrency = acquisitionRate * meanUsageMillis / 1000;
+
+		HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+		return ConnectionPoolAdvice.builder()
+				.poolName(poolName)
+				.maximumPoolSize(hikariDataSource.getMaximumPoolSize())
+				.minimumIdle(hikariDataSource.getMinimumIdle())
+				.activeConnections(pool == null ? 0 : pool.getActiveConnections())
+				.idleConnections(pool == null ? 0 : pool.getIdleConnections())
+				.pendingThreads(pool == null ? 0 : pool.getThreadsAwaitingConnection())
+				.windowSeconds(windowSeconds)
+				.acquisitionRate(acquisitionRate)
+				.meanUsageMillis(meanUsageMillis)
+				.averageConcurrency(averageConcurrency)
+				.acquisitionTimeouts(timeouts == null ? 0 : (long) timeouts.count())
+				.suggestedPoolSize(acquisitions > 0 ? suggestPoolSize(averageConcurrency)
+						: hikariDataSource.getMaximumPoolSize())
+				.build();
+	}
+
+	/**
+	 * Resizes the pool, to the given size or to the suggested one when no size is given,
+	 * and starts a new observation window.
+	 *
+	 * @param poolSize The new maximum size of the pool.
+	 * @return The advice on the pool size after the resize.
+	 */
+	@WriteOperation
+	public synchronized ConnectionPoolAdvice resize(@Nullable Integer poolSize) {
+		HikariDataSource hikariDataSource = hikariDataSource();
+		int size = poolSize != null ? poolSize : advice().getSuggestedPoolSize();
+		if (size < 1) {
+			throw new IllegalArgumentException("The pool size must be at least 1.");
+		}
+
+		log.info("Resizing connection pool {} from {} to {} connections", hikariDataSource.getPoolName(),
+				hikariDataSource.getMaximumPoolSize(), size);
+		if (hikariDataSource.getMinimumIdle() > size) {
+			hikariDataSource.getHikariConfigMXBean().setMinimumIdle(size);
+		}
+		hikariDataSource.getHikariConfigMXBean().setMaximumPoolSize(size);
+		startWindow(hikariDataSource.getPoolName());
+		return advice();
+	}
+
+	int suggestPoolSize(double averageConcurrency) {
+		int size = (int) Math.ceil(averageConcurrency * (1 + headroom));
+		return Math.max(minSize, Math.min(maxSize, size));
+	}
+
+	private void startWindow(String poolName) {
+		Timer usage = usageTimer(poolName);
+		windowStartNanos = System.nanoTime();
+		windowStartUsageCount = usage == null ? 0 : usage.count();
+		windowStartUsageMillis = usage == null ? 0 : usage.totalTime(TimeUnit.MILLISECONDS);
+	}
+
+	private Timer usageTimer(String poolName) {
+		return meterRegistry.find("hikaricp.connections.usage").tag("pool", poolName).timer();
+	}
+
+	private HikariDataSource hikariDataSource() {
+		try {
+			return dataSource.unwrap(HikariDataSource.class);
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException("The data source is not a Hikari connection pool.", e);
+		}
+	}
+
+}
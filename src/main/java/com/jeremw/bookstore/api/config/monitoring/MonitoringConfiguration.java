@@ -0,0 +1,65 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration class wiring the request monitoring components.
+ *
+ * <p>
+ * This class registers the SQL statement counter as the Hibernate statement inspector and
+ * the interceptor tracking the statements executed by each controller method.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+public class MonitoringConfiguration implements WebMvcConfigurer {
+
+	private final SqlBudgetProperties sqlBudgetProperties;
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Defines the counter of the SQL statements executed per request.
+	 *
+	 * @return An instance of SqlStatementCounter.
+	 */
+	@Bean
+	public SqlStatementCounter sqlStatementCounter() {
+		return new SqlStatementCounter(sqlBudgetProperties);
+	}
+
+	/**
+	 * Registers the SQL statement counter as the Hibernate statement inspector.
+	 *
+	 * @return The customizer of the Hibernate properties.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter());
+	}
+
+	/**
+	 * Registers the interceptor tracking the SQL statements of each controller method.
+	 *
+	 * @param registry The registry of the Spring MVC interceptors.
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new SqlStatementInterceptor(sqlStatementCounter(), meterRegistry));
+	}
+
+}
@@ -0,0 +1,200 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-request accumulator of the time spent in the different phases of a request.
+ *
+ * <p>
+ * An instance is bound to the request thread by the {@link ServerTimingFilter} and filled
+ * by the components involved in the request (JWT filter, service and repository aspects,
+ * response serialization). Nested phases with the same name are only counted once, so a
+ * service calling another service does not double its own time.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class RequestTimings {
+
+	/**
+	 * Time spent parsing and validating the JWT token.
+	 */
+	public static final String TOKEN = "token";
+
+	/**
+	 * Time spent loading the authenticated user in the JWT filter.
+	 */
+	public static final String USER = "user";
+
+	/**
+	 * Time spent in service logic, repository calls included.
+	 */
+	public static final String SERVICE = "svc";
+
+	/**
+	 * Time spent in repository calls.
+	 */
+	public static final String DATABASE = "db";
+
+	/**
+	 * Time spent writing the response body.
+	 */
+	public static final String SERIALIZATION = "ser";
+
+	private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+	private static final Phase NO_OP = () -> {
+	};
+
+	private final long startNanos = System.nanoTime();
+
+	private final Map<String, Long> durations = new LinkedHashMap<>();
+
+	private final Deque<String> openPhases = new ArrayDeque<>();
+
+	private RequestTimings() {
+	}
+
+	/**
+	 * Binds a new accumulator to the current thread.
+	 *
+	 * @return The accumulator bound to the current thread.
+	 */
+	public static RequestTimings start() {
+		RequestTimings timings = new RequestTimings();
+		CURRENT.set(timings);
+		return timings;
+	}
+
+	/**
+	 * Returns the accumulator bound to the current thread.
+	 *
+	 * @return The current accumulator, or {@code null} outside a timed request.
+	 */
+	public static RequestTimings current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Unbinds the accumulator from the current thread.
+	 */
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Opens a phase on the current request. The returned phase must be closed once the
+	 * measured work is done.
+	 *
+	 * @param metric The name of the phase.
+	 * @return The opened phase, or a no-op phase outside a timed request or when the same
+	 * phase is already open.
+	 */
+	public static Phase begin(String metric) {
+		RequestTimings timings = CURRENT.get();
+		if (timings == null || timings.isOpen(metric)) {
+			return NO_OP;
+		}
+		return timings.open(metric);
+	}
+
+	/**
+	 * Indicates whether the given phase is currently open on the current request.
+	 *
+	 * @param metric The name of the phase.
+	 * @return {@code true} if the phase is open, {@code false} otherwise.
+	 */
+	public static boolean isWithin(String metric) {
+		RequestTimings timings = CURRENT.get();
+		return timings != null && timings.isOpen(metric);
+	}
+
+	/**
+	 * Adds a duration to a phase of this request.
+	 *
+	 * @param metric The name of the phase.
+	 * @param nanos  The duration to add, in nanoseconds.
+	 */
+	public void record(String metric, long nanos) {
+		durations.merge(metric, nanos, Long::sum);
+	}
+
+	/**
+	 * Returns the time elapsed since the start of the request.
+	 *
+	 * @return The elapsed time, in nanoseconds.
+	 */
+	public long elapsedNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	/**
+	 * Returns the recorded phases, in the order they were first recorded.
+	 *
+	 * @return The duration of each phase, in nanoseconds.
+	 */
+	public Map<String, Long> getDurations() {
+		return durations;
+	}
+
+	/**
+	 * Renders the recorded phases as a {@code Server-Timing} header value, followed by
+	 * the total time elapsed so far.
+	 *
+	 * @return The header value.
+	 */
+	public String toHeaderValue() {
+		StringBuilder header = new StringBuilder();
+		durations.forEach((metric, nanos) -> header.append(metric).append(";dur=").append(toMillis(nanos)).append(", "));
+		return header.append("total;dur=").append(toMillis(elapsedNanos())).toString();
+	}
+
+	/**
+	 * Renders the recorded phases as {@code key=value} pairs for the access log.
+	 *
+	 * @return The structured log fragment.
+	 */
+	public String toLogValue() {
+		StringBuilder line = new StringBuilder("total=").append(toMillis(elapsedNanos()));
+		durations.forEach((metric, nanos) -> line.append(' ').append(metric).append('=').append(toMillis(nanos)));
+		return line.toString();
+	}
+
+	private boolean isOpen(String metric) {
+		return openPhases.contains(metric);
+	}
+
+	private Phase open(String metric) {
+		long start = System.nanoTime();
+		openPhases.push(metric);
+		return () -> {
+			openPhases.remove(metric);
+			record(metric, System.nanoTime() - start);
+		};
+	}
+
+	private static String toMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+	}
+
+	/**
+	 * A measured phase of a request.
+	 */
+	@FunctionalInterface
+	public interface Phase extends AutoCloseable {
+
+		/**
+		 * Closes the phase and records its duration.
+		 */
+		@Override
+		void close();
+
+	}
+
+}
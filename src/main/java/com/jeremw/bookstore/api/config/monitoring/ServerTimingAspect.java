@@ -0,0 +1,59 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Aspect recording the time spent in services and repositories into the current
+ * {@link RequestTimings}.
+ *
+ * <p>
+ * Service calls made while the JWT filter loads the authenticated user are already
+ * accounted in the {@link RequestTimings#USER} phase and are not counted as service time,
+ * neither is the JWT handling which belongs to the {@link RequestTimings#TOKEN} phase.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Aspect
+@Component
+public class ServerTimingAspect {
+
+	/**
+	 * Records the time spent in the service implementations.
+	 *
+	 * @param joinPoint The intercepted service call.
+	 * @return The result of the service call.
+	 * @throws Throwable If the service call fails.
+	 */
+	@Around("execution(* com.jeremw.bookstore.api..*ServiceImpl.*(..)) "
+			+ "&& !within(com.jeremw.bookstore.api.auth.JwtServiceImpl)")
+	public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (RequestTimings.isWithin(RequestTimings.USER)) {
+			return joinPoint.proceed();
+		}
+		try (RequestTimings.Phase ignored = RequestTimings.begin(RequestTimings.SERVICE)) {
+			return joinPoint.proceed();
+		}
+	}
+
+	/**
+	 * Records the time spent in the Spring Data repositories.
+	 *
+	 * @param joinPoint The intercepted repository call.
+	 * @return The result of the repository call.
+	 * @throws Throwable If the repository call fails.
+	 */
+	@Around("execution(* *(..)) && this(org.springframework.data.repository.Repository)")
+	public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+		try (RequestTimings.Phase ignored = RequestTimings.begin(RequestTimings.DATABASE)) {
+			return joinPoint.proceed();
+		}
+	}
+
+}
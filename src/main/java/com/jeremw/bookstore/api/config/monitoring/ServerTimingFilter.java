@@ -0,0 +1,167 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filter measuring the latency breakdown of each request and exposing it to clients.
+ *
+ * <p>
+ * The filter binds a {@link RequestTimings} to the request thread before the security
+ * filter chain runs. The recorded phases are sent in a {@code Server-Timing} header as
+ * soon as the response body starts to be written, so that they show up in the browser
+ * devtools. The serialization time is only known once the body is written, and is
+ * therefore reported in the optional access log line.
+ * </p>
+ *
+ * <p>
+ * A streamed body, such as the book listing, is read from the database while it is
+ * written: the header then lacks the {@code db} phase, which is only reported in the
+ * access log line with the serialization.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	/**
+	 * The name of the header carrying the latency breakdown.
+	 */
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	@Value("${server-timing.enabled:true}")
+	private boolean enabled;
+
+	@Value("${server-timing.access-log:false}")
+	private boolean accessLog;
+
+	/**
+	 * Times the request and emits the latency breakdown.
+	 *
+	 * @param request     the HTTP servlet request
+	 * @param response    the HTTP servlet response
+	 * @param filterChain the filter chain for invoking the next filter in the chain
+	 * @throws ServletException if a servlet-specific error occurs while handling the
+	 *                          request
+	 * @throws IOException      if an I/O error occurs while processing the request
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (!enabled) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		RequestTimings timings = RequestTimings.start();
+		ServerTimingResponseWrapper responseWrapper = new ServerTimingResponseWrapper(response, timings);
+
+		try {
+			filterChain.doFilter(request, responseWrapper);
+		}
+		finally {
+			responseWrapper.writeServerTimingHeader();
+			responseWrapper.recordSerialization();
+			if (accessLog) {
+				log.info("method={} uri={} status={} {}", request.getMethod(), request.getRequestURI(),
+						response.getStatus(), timings.toLogValue());
+			}
+			RequestTimings.clear();
+		}
+	}
+
+	/**
+	 * Response wrapper adding the {@code Server-Timing} header right before the response
+	 * is committed.
+	 */
+	static class ServerTimingResponseWrapper extends HttpServletResponseWrapper {
+
+		private final RequestTimings timings;
+
+		private boolean headerWritten;
+
+		private long bodyStartNanos;
+
+		ServerTimingResponseWrapper(HttpServletResponse response, RequestTimings timings) {
+			super(response);
+			this.timings = timings;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			startBody();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			startBody();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			writeServerTimingHeader();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			writeServerTimingHeader();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			writeServerTimingHeader();
+			super.sendError(sc);
+		}
+
+		@Override
+		public void sendRedirect(String location) throws IOException {
+			writeServerTimingHeader();
+			super.sendRedirect(location);
+		}
+
+		void recordSerialization() {
+			if (bodyStartNanos != 0) {
+				timings.record(RequestTimings.SERIALIZATION, System.nanoTime() - bodyStartNanos);
+			}
+		}
+
+		private void startBody() {
+			if (bodyStartNanos == 0) {
+				bodyStartNanos = System.nanoTime();
+			}
+			writeServerTimingHeader();
+		}
+
+		void writeServerTimingHeader() {
+			if (!headerWritten && !isCommitted()) {
+				headerWritten = true;
+				setHeader(SERVER_TIMING_HEADER, timings.toHeaderValue());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,24 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+/**
+ * Exception thrown when a request executes more SQL statements than its budget allows
+ * and the budget is configured to fail.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+	/**
+	 * Constructs a new SqlBudgetExceededException.
+	 *
+	 * @param endpoint The endpoint whose budget is exceeded.
+	 * @param budget   The statement budget of the endpoint.
+	 * @param sql      The statement exceeding the budget.
+	 */
+	public SqlBudgetExceededException(String endpoint, int budget, String sql) {
+		super("SQL statement budget of " + budget + " exceeded for " + endpoint + " by: " + sql);
+	}
+
+}
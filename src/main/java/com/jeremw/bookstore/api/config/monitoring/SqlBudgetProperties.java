@@ -0,0 +1,75 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the per-request SQL statement budget.
+ *
+ * <p>
+ * Endpoints are identified by their HTTP method and their mapping pattern, for example
+ * {@code GET /users/{userId}/books}. In YAML the key must be escaped with brackets:
+ * {@code "[GET /users/{userId}/books]": 1}.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "sql-budget")
+public class SqlBudgetProperties {
+
+	/**
+	 * What to do when a request executes more statements than its budget.
+	 */
+	private Mode mode = Mode.LOG;
+
+	/**
+	 * The budget applied to the endpoints without a specific budget.
+	 */
+	private int defaultBudget = 10;
+
+	/**
+	 * The budget of specific endpoints, keyed by method and mapping pattern, followed by
+	 * {@code ?} and the parameter conditions of the mapping when it has any.
+	 */
+	private Map<String, Integer> endpoints = new HashMap<>();
+
+	/**
+	 * Returns the budget of the given endpoint.
+	 *
+	 * @param endpoint The method, mapping pattern and parameter conditions of the endpoint.
+	 * @return The maximum number of statements allowed for one request.
+	 */
+	public int budgetFor(String endpoint) {
+		return endpoints.getOrDefault(endpoint, defaultBudget);
+	}
+
+	/**
+	 * Behaviour when the budget of a request is exceeded.
+	 */
+	public enum Mode {
+
+		/**
+		 * Statements are counted, the budget is not checked.
+		 */
+		OFF,
+
+		/**
+		 * A warning is logged once per request.
+		 */
+		LOG,
+
+		/**
+		 * The statement exceeding the budget is rejected.
+		 */
+		FAIL
+
+	}
+
+}
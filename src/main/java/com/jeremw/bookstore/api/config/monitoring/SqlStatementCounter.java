@@ -0,0 +1,96 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} counting the SQL statements executed by the
+ * current request and enforcing its statement budget.
+ *
+ * <p>
+ * A request is tracked between {@link #begin(String)} and {@link #end()}, which are
+ * called on the request thread by the {@link SqlStatementInterceptor}. Statements
+ * executed outside a tracked request are ignored.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final ThreadLocal<TrackedRequest> CURRENT = new ThreadLocal<>();
+
+	private final SqlBudgetProperties properties;
+
+	/**
+	 * Starts counting the statements of the current request.
+	 *
+	 * @param endpoint The method, mapping pattern and parameter conditions of the endpoint
+	 * handling the request.
+	 */
+	public void begin(String endpoint) {
+		CURRENT.set(new TrackedRequest(endpoint, properties.budgetFor(endpoint)));
+	}
+
+	/**
+	 * Stops counting the statements of the current request.
+	 *
+	 * @return The number of statements executed since {@link #begin(String)}, or 0 if
+	 * the request was not tracked.
+	 */
+	public int end() {
+		TrackedRequest request = CURRENT.get();
+		CURRENT.remove();
+		return request != null ? request.count : 0;
+	}
+
+	/**
+	 * Counts the statement against the budget of the current request.
+	 *
+	 * @param sql The SQL statement about to be prepared.
+	 * @return The unchanged SQL statement.
+	 * @throws SqlBudgetExceededException If the budget is exceeded in {@code FAIL} mode.
+	 */
+	@Override
+	public String inspect(String sql) {
+		TrackedRequest request = CURRENT.get();
+		if (request == null) {
+			return sql;
+		}
+
+		request.count++;
+		if (request.count > request.budget && properties.getMode() != SqlBudgetProperties.Mode.OFF) {
+			if (properties.getMode() == SqlBudgetProperties.Mode.FAIL) {
+				throw new SqlBudgetExceededException(request.endpoint, request.budget, sql);
+			}
+			if (!request.warned) {
+				request.warned = true;
+				log.warn("SQL statement budget of {} exceeded for {}, possible N+1 query: {}", request.budget,
+						request.endpoint, sql);
+			}
+		}
+		return sql;
+	}
+
+	private static final class TrackedRequest {
+
+		private final String endpoint;
+
+		private final int budget;
+
+		private int count;
+
+		private boolean warned;
+
+		private TrackedRequest(String endpoint, int budget) {
+			this.endpoint = endpoint;
+			this.budget = budget;
+		}
+
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Interceptor tracking the SQL statements executed by each controller method and
+ * publishing them as the {@code http.server.sql.statements} metric.
+ *
+ * <p>
+ * The number of statements of a request is also exposed as the
+ * {@link #STATEMENT_COUNT_ATTRIBUTE} request attribute, so tests can assert it.
+ * </p>
+ *
+ * <p>
+ * An async request, such as a change stream, stops counting on the request thread when
+ * the handler returns, before the thread goes back to the pool. The statements of its
+ * async dispatch are added to them, and the request is published once it completes.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+public class SqlStatementInterceptor implements AsyncHandlerInterceptor {
+
+	/**
+	 * The request attribute holding the number of statements executed by the request.
+	 */
+	public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatementInterceptor.class.getName() + ".count";
+
+	private final SqlStatementCounter sqlStatementCounter;
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		sqlStatementCounter.begin(endpointOf(request, handler));
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+			Object handler) {
+		request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, countOf(request));
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		int count = countOf(request);
+		request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, count);
+
+		DistributionSummary.builder("http.server.sql.statements")
+				.description("SQL statements executed per request")
+				.tag("method", request.getMethod())
+				.tag("uri", patternOf(request))
+				.register(meterRegistry)
+				.record(count);
+	}
+
+	private int countOf(HttpServletRequest request) {
+		int count = sqlStatementCounter.end();
+		if (request.getAttribute(STATEMENT_COUNT_ATTRIBUTE) instanceof Integer previous) {
+			count += previous;
+		}
+		return count;
+	}
+
+	private static String endpointOf(HttpServletRequest request, Object handler) {
+		String endpoint = request.getMethod() + " " + patternOf(request);
+		if (handler instanceof HandlerMethod handlerMethod) {
+			// Handlers sharing a pattern, told apart by their parameters, have their own budget
+			RequestMapping mapping = handlerMethod.getMethodAnnotation(RequestMapping.class);
+			if (mapping != null && mapping.params().length > 0) {
+				endpoint += "?" + String.join("&", mapping.params());
+			}
+		}
+		return endpoint;
+	}
+
+	private static String patternOf(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : "UNKNOWN";
+	}
+
+}
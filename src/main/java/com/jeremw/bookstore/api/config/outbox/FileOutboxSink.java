@@ -0,0 +1,62 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends the relayed changes to a local file, one JSON document per line.
+ *
+ * <p>
+ * Each batch is forced to the disk before it is removed from the outbox.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class FileOutboxSink implements OutboxSink {
+
+	private final Path path;
+
+	private final ObjectMapper objectMapper;
+
+	public FileOutboxSink(Path path, ObjectMapper objectMapper) {
+		this.path = path;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public synchronized void publish(List<OutboxEvent> events) {
+		try {
+			Path parent = path.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+					StandardOpenOption.APPEND)) {
+				Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+				for (OutboxEvent event : events) {
+					writer.write(objectMapper.writeValueAsString(event));
+					writer.write('\n');
+				}
+				writer.flush();
+				channel.force(false);
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Error while appending the changes to " + path, e);
+		}
+	}
+
+}
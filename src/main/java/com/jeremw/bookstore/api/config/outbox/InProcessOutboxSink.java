@@ -0,0 +1,27 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Publishes the relayed changes as application events, to the listeners of
+ * {@link OutboxEvent} in this application.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@RequiredArgsConstructor
+public class InProcessOutboxSink implements OutboxSink {
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@Override
+	public void publish(List<OutboxEvent> events) {
+		events.forEach(applicationEventPublisher::publishEvent);
+	}
+
+}
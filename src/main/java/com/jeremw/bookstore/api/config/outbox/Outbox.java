@@ -0,0 +1,50 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.time.Instant;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records the changes in the outbox.
+ *
+ * <p>
+ * A change can only be recorded in the transaction making it, so the record is committed
+ * or rolled back with the change itself. With sharding, the record is written to the
+ * shard bound to that transaction.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+	private final OutboxEventRepository outboxEventRepository;
+
+	/**
+	 * Records a change of an aggregate.
+	 *
+	 * @param aggregateType The type of the changed aggregate.
+	 * @param aggregateId   The ID of the changed aggregate.
+	 * @param userId        The ID of the user owning the aggregate.
+	 * @param type          The type of the change.
+	 * @return The recorded change.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public OutboxEvent record(String aggregateType, Long aggregateId, Long userId, OutboxEvent.Type type) {
+		return outboxEventRepository.save(OutboxEvent.builder()
+				.aggregateType(aggregateType)
+				.aggregateId(aggregateId)
+				.userId(userId)
+				.type(type)
+				.createdAt(Instant.now())
+				.build());
+	}
+
+}
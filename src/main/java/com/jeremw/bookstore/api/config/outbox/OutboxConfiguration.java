@@ -0,0 +1,83 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeremw.bookstore.api.config.shard.ShardDataSources;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class relaying the outbox to the enabled sinks.
+ *
+ * <p>
+ * With sharding, the outbox of every shard is relayed; otherwise the outbox of the
+ * application database, whose writes always go to the primary.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfiguration {
+
+	private final OutboxProperties outboxProperties;
+
+	/**
+	 * Defines the sink publishing the changes as application events.
+	 *
+	 * @param applicationEventPublisher The publisher of the application events.
+	 * @return The in-process sink.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "outbox.sinks.in-process", name = "enabled", matchIfMissing = true)
+	public InProcessOutboxSink inProcessOutboxSink(ApplicationEventPublisher applicationEventPublisher) {
+		return new InProcessOutboxSink(applicationEventPublisher);
+	}
+
+	/**
+	 * Defines the sink appending the changes to a local file.
+	 *
+	 * @param objectMapper The mapper writing the changes.
+	 * @return The file sink.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "outbox.sinks.file", name = "enabled")
+	public FileOutboxSink fileOutboxSink(ObjectMapper objectMapper) {
+		return new FileOutboxSink(Path.of(outboxProperties.getSinks().getFile().getPath()), objectMapper);
+	}
+
+	/**
+	 * Defines the relay of the outbox.
+	 *
+	 * @param dataSource       The application data source.
+	 * @param shardDataSources The pools of the shards, when the books are sharded.
+	 * @param sinks            The enabled sinks.
+	 * @param meterRegistry    The registry publishing the relayed changes.
+	 * @return The relay.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", matchIfMissing = true)
+	public OutboxRelay outboxRelay(DataSource dataSource, ObjectProvider<ShardDataSources> shardDataSources,
+			ObjectProvider<OutboxSink> sinks, MeterRegistry meterRegistry) {
+		ShardDataSources shards = shardDataSources.getIfAvailable();
+		List<DataSource> dataSources = shards == null ? List.of(dataSource) : new ArrayList<>(shards.getAll());
+		return new OutboxRelay(dataSources, sinks.orderedStream().toList(), outboxProperties.getRelay().getBatchSize(),
+				meterRegistry);
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Entity class representing a change recorded in the outbox.
+ *
+ * <p>
+ * The record only identifies the changed aggregate; the consumers needing its state read
+ * it back. The ID is an identity of the database the change was written to, so the rows
+ * of a database are relayed in the order they were inserted.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_event")
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * The type of the changed aggregate, such as {@code Book}.
+	 */
+	@Column(nullable = false, updatable = false, length = 50)
+	private String aggregateType;
+
+	@Column(nullable = false, updatable = false)
+	private Long aggregateId;
+
+	/**
+	 * The user owning the changed aggregate.
+	 */
+	@Column(updatable = false)
+	private Long userId;
+
+	@Enumerated(EnumType.STRING)
+	@JdbcTypeCode(SqlTypes.VARCHAR)
+	@Column(name = "event_type", nullable = false, updatable = false, length = 20)
+	private Type type;
+
+	@Column(nullable = false, updatable = false)
+	private Instant createdAt;
+
+	/**
+	 * Types of the recorded changes.
+	 */
+	public enum Type {
+
+		CREATED,
+
+		UPDATED,
+
+		DELETED
+
+	}
+
+}
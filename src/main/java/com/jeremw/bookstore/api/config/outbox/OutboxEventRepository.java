@@ -0,0 +1,17 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of the {@link OutboxEvent} entities, used to write the changes in the
+ * transaction making them. The relay reads the outbox through JDBC, database by database.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+}
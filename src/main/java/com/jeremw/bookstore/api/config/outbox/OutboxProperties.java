@@ -0,0 +1,82 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the relay of the outbox and of its sinks.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+	private Relay relay = new Relay();
+
+	private Sinks sinks = new Sinks();
+
+	/**
+	 * Settings of the relay.
+	 */
+	@Data
+	public static class Relay {
+
+		/**
+		 * Whether this application node relays the outbox. A single node should relay it,
+		 * the others would publish the same changes.
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * The delay between two runs of the relay.
+		 */
+		private Duration interval = Duration.ofSeconds(1);
+
+		/**
+		 * The maximum number of changes published per batch.
+		 */
+		private int batchSize = 100;
+
+	}
+
+	/**
+	 * Settings of the sinks the changes are published to.
+	 */
+	@Data
+	public static class Sinks {
+
+		private InProcess inProcess = new InProcess();
+
+		private File file = new File();
+
+	}
+
+	/**
+	 * Settings of the sink publishing the changes as application events.
+	 */
+	@Data
+	public static class InProcess {
+
+		private boolean enabled = true;
+
+	}
+
+	/**
+	 * Settings of the sink appending the changes to a local file.
+	 */
+	@Data
+	public static class File {
+
+		private boolean enabled = false;
+
+		private String path = "./data/outbox.jsonl";
+
+	}
+
+}
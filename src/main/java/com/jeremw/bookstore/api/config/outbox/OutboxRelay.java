@@ -0,0 +1,107 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Relays the changes recorded in the outbox to the sinks.
+ *
+ * <p>
+ * Each database holding an outbox is drained in batches: a batch is read, published to
+ * every sink and deleted in one transaction, which is rolled back when a sink fails so
+ * the batch is published again at the next run. The changes of a database are published
+ * in the order of their IDs; a change whose transaction committed after a change with a
+ * greater ID may be published after it.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Slf4j
+public class OutboxRelay {
+
+	private static final RowMapper<OutboxEvent> ROW_MAPPER = (rs, rowNum) -> OutboxEvent.builder()
+			.id(rs.getLong("id"))
+			.aggregateType(rs.getString("aggregate_type"))
+			.aggregateId(rs.getLong("aggregate_id"))
+			.userId(rs.getObject("user_id", Long.class))
+			.type(OutboxEvent.Type.valueOf(rs.getString("event_type")))
+			.createdAt(rs.getTimestamp("created_at").toInstant())
+			.build();
+
+	private final List<DataSource> dataSources;
+
+	private final List<OutboxSink> sinks;
+
+	private final int batchSize;
+
+	private final Counter publishedEvents;
+
+	public OutboxRelay(List<DataSource> dataSources, List<OutboxSink> sinks, int batchSize,
+			MeterRegistry meterRegistry) {
+		this.dataSources = List.copyOf(dataSources);
+		this.sinks = List.copyOf(sinks);
+		this.batchSize = batchSize;
+		this.publishedEvents = Counter.builder("outbox.events.published")
+				.description("Changes published from the outbox to the sinks")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Drains the outbox of every database.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.relay.interval:PT1S}")
+	public synchronized void relay() {
+		for (DataSource dataSource : dataSources) {
+			try {
+				drain(dataSource);
+			}
+			catch (RuntimeException e) {
+				log.warn("Error while relaying the outbox of {}: {}", dataSource, e.getMessage());
+			}
+		}
+	}
+
+	private void drain(DataSource dataSource) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+		int relayed;
+		do {
+			relayed = transactionTemplate.execute(status -> relayBatch(jdbcTemplate));
+		}
+		while (relayed == batchSize);
+	}
+
+	private int relayBatch(JdbcTemplate jdbcTemplate) {
+		List<OutboxEvent> events = jdbcTemplate.query("""
+				select id, aggregate_type, aggregate_id, user_id, event_type, created_at
+				from outbox_event order by id fetch first ? rows only
+				""", ROW_MAPPER, batchSize);
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		for (OutboxSink sink : sinks) {
+			sink.publish(events);
+		}
+
+		jdbcTemplate.batchUpdate("delete from outbox_event where id = ?", events, events.size(),
+				(ps, event) -> ps.setLong(1, event.getId()));
+		publishedEvents.increment(events.size());
+		return events.size();
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the changes relayed from the outbox.
+ *
+ * <p>
+ * The changes are delivered at least once: a batch is published again when a sink fails,
+ * or when the application stops before the batch is removed from the outbox.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public interface OutboxSink {
+
+	/**
+	 * Publishes a batch of changes, in the order they were recorded.
+	 *
+	 * @param events The changes to publish.
+	 */
+	void publish(List<OutboxEvent> events);
+
+}
@@ -0,0 +1,55 @@
+package com.jeremw.bookstore.api.config.purge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.jeremw.bookstore.api.config.shard.ShardDataSources;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class of the purge of the soft-deleted rows.
+ *
+ * <p>
+ * The users are purged from the application database, which routes the connections
+ * opened outside of a book operation to the directory database, or to the primary. With
+ * sharding, the books are purged from every shard.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PurgeProperties.class)
+public class PurgeConfiguration {
+
+	private final PurgeProperties purgeProperties;
+
+	/**
+	 * Defines the purger of the soft-deleted rows.
+	 *
+	 * @param dataSource       The application data source.
+	 * @param shardDataSources The pools of the shards, when the books are sharded.
+	 * @param meterRegistry    The registry publishing the purge metrics.
+	 * @return The purger.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "purge", name = "enabled", matchIfMissing = true)
+	public SoftDeletePurger softDeletePurger(DataSource dataSource, ObjectProvider<ShardDataSources> shardDataSources,
+			MeterRegistry meterRegistry) {
+		ShardDataSources shards = shardDataSources.getIfAvailable();
+		List<DataSource> bookDataSources = shards == null ? List.of(dataSource) : new ArrayList<>(shards.getAll());
+		return new SoftDeletePurger(dataSource, bookDataSources, purgeProperties, meterRegistry);
+	}
+
+}
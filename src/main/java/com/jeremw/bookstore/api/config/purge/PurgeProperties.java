@@ -0,0 +1,40 @@
+package com.jeremw.bookstore.api.config.purge;
+
+import java.time.Duration;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the purge of the soft-deleted books and users.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "purge")
+public class PurgeProperties {
+
+	/**
+	 * Whether this application node purges the deleted rows.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The delay between two runs of the purge, which paces the batches.
+	 */
+	private Duration interval = Duration.ofSeconds(1);
+
+	/**
+	 * The maximum number of rows deleted per statement.
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * The maximum number of batches per run.
+	 */
+	private int maxBatchesPerRun = 10;
+
+}
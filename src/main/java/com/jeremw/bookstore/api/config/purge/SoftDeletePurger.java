@@ -0,0 +1,199 @@
+package com.jeremw.bookstore.api.config.purge;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Hard-deletes the soft-deleted books and users in small batches.
+ *
+ * <p>
+ * Each batch is a single delete statement committed on its own, so the locks are held
+ * briefly. The deleted books and the deleted users each get a fixed number of batches
+ * per run: a large library is removed over several runs. The deleted books are purged
+ * first, then the library, the refresh tokens and the book count of each deleted user,
+ * the user last. The backlog left after each run is published as the
+ * {@code purge.backlog} gauge and the purged rows as the {@code purge.deleted} counter.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Slf4j
+public class SoftDeletePurger {
+
+	private static final String DELETED_BOOKS = """
+			delete from book where id in (select id from book where deleted = true fetch first ? rows only)
+			""";
+
+	private static final String BOOKS_OF_USER = """
+			delete from book where id in (select id from book where user_id = ? fetch first ? rows only)
+			""";
+
+	private static final String TOMBSTONES_OF_USER = """
+			delete from book_tombstone where book_id in
+			(select book_id from book_tombstone where user_id = ? fetch first ? rows only)
+			""";
+
+	private final JdbcTemplate directory;
+
+	private final List<JdbcTemplate> bookStores;
+
+	private final int batchSize;
+
+	private final int maxBatchesPerRun;
+
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicLong bookBacklog = new AtomicLong();
+
+	private final AtomicLong userBacklog = new AtomicLong();
+
+	/**
+	 * Creates the purger.
+	 *
+	 * @param directoryDataSource The database of the users.
+	 * @param bookDataSources     The databases of the books, one per shard.
+	 * @param properties          The settings of the purge.
+	 * @param meterRegistry       The registry publishing the purge metrics.
+	 */
+	public SoftDeletePurger(DataSource directoryDataSource, List<DataSource> bookDataSources,
+			PurgeProperties properties, MeterRegistry meterRegistry) {
+		this.directory = new JdbcTemplate(directoryDataSource);
+		this.bookStores = bookDataSources.stream().map(JdbcTemplate::new).toList();
+		this.batchSize = properties.getBatchSize();
+		this.maxBatchesPerRun = properties.getMaxBatchesPerRun();
+		this.meterRegistry = meterRegistry;
+
+		Gauge.builder("purge.backlog", bookBacklog, AtomicLong::get)
+				.description("Deleted rows waiting for the purge")
+				.tag("type", "book")
+				.register(meterRegistry);
+		Gauge.builder("purge.backlog", userBacklog, AtomicLong::get)
+				.description("Deleted rows waiting for the purge")
+				.tag("type", "user")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Runs a bounded number of purge batches and refreshes the backlog.
+	 */
+	@Scheduled(fixedDelayString = "${purge.interval:PT1S}")
+	public synchronized void purge() {
+		try {
+			Run bookRun = new Run();
+			for (JdbcTemplate books : bookStores) {
+				bookRun.deleteInBatches(books, "book", DELETED_BOOKS);
+			}
+			purgeUsers(new Run());
+		}
+		catch (RuntimeException e) {
+			log.warn("Error while purging the deleted rows: {}", e.getMessage());
+		}
+		refreshBacklog();
+	}
+
+	/**
+	 * Returns the number of deleted books waiting for the purge, as of the last run.
+	 *
+	 * @return The book backlog.
+	 */
+	public long getBookBacklog() {
+		return bookBacklog.get();
+	}
+
+	/**
+	 * Returns the number of deleted users waiting for the purge, as of the last run.
+	 *
+	 * @return The user backlog.
+	 */
+	public long getUserBacklog() {
+		return userBacklog.get();
+	}
+
+	private void purgeUsers(Run run) {
+		List<Long> userIds = directory.queryForList(
+				"select id from user_app where deleted = true order by id fetch first ? rows only", Long.class,
+				batchSize);
+
+		for (Long userId : userIds) {
+			boolean libraryPurged = true;
+			for (JdbcTemplate books : bookStores) {
+				libraryPurged = run.deleteInBatches(books, "book", BOOKS_OF_USER, userId)
+						&& run.deleteInBatches(books, "tombstone", TOMBSTONES_OF_USER, userId)
+						&& libraryPurged;
+			}
+			if (!libraryPurged) {
+				return;
+			}
+
+			directory.update("delete from refresh_token where user_id = ?", userId);
+			directory.update("delete from user_book_count where user_id = ?", userId);
+			deleted("user").increment(directory.update("delete from user_app where id = ? and deleted = true", userId));
+			log.info("Purged the deleted user {}", userId);
+		}
+	}
+
+	private void refreshBacklog() {
+		try {
+			bookBacklog.set(bookStores.stream()
+					.mapToLong(books -> books.queryForObject("select count(*) from book where deleted = true", Long.class))
+					.sum());
+			userBacklog.set(directory.queryForObject("select count(*) from user_app where deleted = true", Long.class));
+		}
+		catch (RuntimeException e) {
+			log.warn("Error while measuring the purge backlog: {}", e.getMessage());
+		}
+	}
+
+	private Counter deleted(String type) {
+		return Counter.builder("purge.deleted")
+				.description("Rows hard-deleted by the purge")
+				.tag("type", type)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * The batches of one run of the purge.
+	 */
+	private final class Run {
+
+		private int batches;
+
+		/**
+		 * Deletes the matching rows batch by batch, within the batches left for the run. A
+		 * statement deleting no row does not count as a batch, so each run makes progress.
+		 *
+		 * @return Whether every matching row is deleted.
+		 */
+		boolean deleteInBatches(JdbcTemplate jdbcTemplate, String type, String sql, Object... args) {
+			Object[] params = new Object[args.length + 1];
+			System.arraycopy(args, 0, params, 0, args.length);
+			params[args.length] = batchSize;
+
+			while (batches < maxBatchesPerRun) {
+				int deletedRows = jdbcTemplate.update(sql, params);
+				if (deletedRows > 0) {
+					batches++;
+					deleted(type).increment(deletedRows);
+				}
+				if (deletedRows < batchSize) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
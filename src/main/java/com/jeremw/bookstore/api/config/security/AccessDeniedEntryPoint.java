@@ -2,16 +2,15 @@ package com.jeremw.bookstore.api.config.security;
 
 import java.io.IOException;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jeremw.bookstore.api.exception.ResourceExceptionDTO;
+import com.jeremw.bookstore.api.exception.ErrorLogLimiter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
@@ -20,7 +19,8 @@ import org.springframework.security.web.access.AccessDeniedHandler;
  *
  * <p>
  * This class handles the access denied scenario and sends a forbidden response with
- * relevant information.
+ * relevant information. The requests are logged without a stack trace, at most once per
+ * {@code error-log.interval}.
  * </p>
  *
  * @author Jérémy Woirhaye
@@ -29,8 +29,13 @@ import org.springframework.security.web.access.AccessDeniedHandler;
  */
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class AccessDeniedEntryPoint implements AccessDeniedHandler {
 
+	private final ErrorResponseRenderer errorResponseRenderer;
+
+	private final ErrorLogLimiter errorLogLimiter;
+
 	/**
 	 * Handles the access denied scenario and sends a forbidden response with relevant
 	 * information.
@@ -45,20 +50,14 @@ public class AccessDeniedEntryPoint implements AccessDeniedHandler {
 	public void handle(HttpServletRequest request, HttpServletResponse response,
 			AccessDeniedException accessDeniedException) throws IOException, ServletException {
 
-		log.info("Access denied exception occurred while accessing endpoint : {}", request.getRequestURL().toString(),
-				accessDeniedException);
-
-		response.setStatus(HttpStatus.FORBIDDEN.value());
-		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-
-		ResourceExceptionDTO exceptionDTO = ResourceExceptionDTO.builder()
-				.errorCode("Forbidden")
-				.errorMessage("You are not allowed to reach this endpoint.")
-				.requestURL(request.getRequestURL().toString())
-				.status(HttpStatus.FORBIDDEN)
-				.build();
+		long suppressed = errorLogLimiter.acquire("Forbidden");
+		if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+			log.info("Access denied exception occurred while accessing endpoint : {}, similar errors not logged: {}",
+					request.getRequestURL().toString(), suppressed);
+		}
 
-		new ObjectMapper().writeValue(response.getOutputStream(), exceptionDTO);
+		errorResponseRenderer.render(response, "Forbidden", "You are not allowed to reach this endpoint.",
+				HttpStatus.FORBIDDEN, request.getRequestURL().toString());
 	}
 
 }
@@ -0,0 +1,119 @@
+package com.jeremw.bookstore.api.config.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeremw.bookstore.api.exception.ResourceExceptionDTO;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Component writing the error responses of the security layer.
+ *
+ * <p>
+ * The body of an error is encoded once per error code, message and status, with the
+ * application {@link ObjectMapper}. Each response then only encodes the request URL,
+ * spliced between the cached bytes, so the rejected requests never go through a full
+ * serialization.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Component
+public class ErrorResponseRenderer {
+
+	/**
+	 * The maximum number of cached templates, the errors beyond it are encoded on each
+	 * response.
+	 */
+	static final int MAX_TEMPLATES = 256;
+
+	private static final String URL_PLACEHOLDER = "\u0000requestURL\u0000";
+
+	private final ObjectMapper objectMapper;
+
+	private final Map<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the renderer.
+	 *
+	 * @param objectMapper The mapper encoding the templates.
+	 */
+	public ErrorResponseRenderer(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Writes an error response.
+	 *
+	 * @param response     The response to write.
+	 * @param errorCode    The unique identifier for the type of error.
+	 * @param errorMessage The human-readable error message.
+	 * @param status       The HTTP status of the response.
+	 * @param requestURL   The URL of the request in error.
+	 * @throws IOException If an I/O error occurs during response writing.
+	 */
+	public void render(HttpServletResponse response, String errorCode, String errorMessage, HttpStatus status,
+			String requestURL) throws IOException {
+		TemplateKey key = new TemplateKey(errorCode, errorMessage, status);
+		Template template = templates.get(key);
+		if (template == null) {
+			template = createTemplate(key);
+			if (templates.size() < MAX_TEMPLATES) {
+				templates.putIfAbsent(key, template);
+			}
+		}
+		template.write(response, status, requestURL);
+	}
+
+	private Template createTemplate(TemplateKey key) throws JsonProcessingException {
+		ResourceExceptionDTO exceptionDTO = ResourceExceptionDTO.builder()
+				.errorCode(key.errorCode())
+				.errorMessage(key.errorMessage())
+				.requestURL(URL_PLACEHOLDER)
+				.status(key.status())
+				.build();
+
+		String body = objectMapper.writeValueAsString(exceptionDTO);
+		String quotedPlaceholder = "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(URL_PLACEHOLDER))
+				+ "\"";
+		int placeholderIndex = body.indexOf(quotedPlaceholder);
+		return new Template(body.substring(0, placeholderIndex + 1).getBytes(StandardCharsets.UTF_8),
+				body.substring(placeholderIndex + quotedPlaceholder.length() - 1).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private record TemplateKey(String errorCode, String errorMessage, HttpStatus status) {
+	}
+
+	/**
+	 * The encoded body of an error, around the value of its request URL.
+	 */
+	private record Template(byte[] prefix, byte[] suffix) {
+
+		void write(HttpServletResponse response, HttpStatus status, String requestURL) throws IOException {
+			byte[] url = JsonStringEncoder.getInstance().quoteAsUTF8(requestURL == null ? "" : requestURL);
+
+			response.setStatus(status.value());
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.setContentLength(prefix.length + url.length + suffix.length);
+
+			ServletOutputStream outputStream = response.getOutputStream();
+			outputStream.write(prefix);
+			outputStream.write(url);
+			outputStream.write(suffix);
+		}
+
+	}
+
+}
@@ -2,9 +2,8 @@ package com.jeremw.bookstore.api.config.security;
 
 import java.io.IOException;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jeremw.bookstore.api.auth.JwtService;
-import com.jeremw.bookstore.api.exception.ResourceExceptionDTO;
+import com.jeremw.bookstore.api.config.monitoring.RequestTimings;
 import com.jeremw.bookstore.api.user.User;
 import com.jeremw.bookstore.api.user.UserResourceException;
 import com.jeremw.bookstore.api.user.UserService;
@@ -18,7 +17,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -44,7 +42,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-	private final ObjectMapper mapper;
+	private final ErrorResponseRenderer errorResponseRenderer;
 
 	private final JwtService jwtService;
 
@@ -75,7 +73,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 		}
 
 		try {
-			username = jwtService.extractUsername(token);
+			try (RequestTimings.Phase ignored = RequestTimings.begin(RequestTimings.TOKEN)) {
+				username = jwtService.extractUsername(token);
+			}
 
 			log.info("username : {}", username);
 
@@ -83,9 +83,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
 				log.info("Authenticating user: {}", username);
 
-				User user = userService.findUserByUsername(username);
+				User user;
+				try (RequestTimings.Phase ignored = RequestTimings.begin(RequestTimings.USER)) {
+					user = userService.findUserByUsername(username);
+				}
+
+				boolean tokenValid;
+				try (RequestTimings.Phase ignored = RequestTimings.begin(RequestTimings.TOKEN)) {
+					tokenValid = jwtService.isTokenValid(token, user);
+				}
 
-				if (jwtService.isTokenValid(token, user)) {
+				if (tokenValid) {
 					UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
 							user, null, user.getAuthorities());
 					authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -97,46 +105,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
 		}
 		catch (SignatureException e) {
-
-			ResourceExceptionDTO exceptionDTO = ResourceExceptionDTO.builder()
-					.errorCode("IncorrectTokenSignature")
-					.errorMessage("Token signature is incorrect, the token is not valid.")
-					.status(HttpStatus.UNAUTHORIZED)
-					.requestURL(request.getRequestURI())
-					.build();
-
-			response.setStatus(HttpStatus.UNAUTHORIZED.value());
-			response.setContentType(MediaType.APPLICATION_JSON.toString());
-			mapper.writeValue(response.getOutputStream(), exceptionDTO);
-
+			errorResponseRenderer.render(response, "IncorrectTokenSignature",
+					"Token signature is incorrect, the token is not valid.", HttpStatus.UNAUTHORIZED,
+					request.getRequestURI());
 		}
 		catch (ExpiredJwtException e) {
-
-			ResourceExceptionDTO exceptionDTO = ResourceExceptionDTO.builder()
-					.errorCode("ExpiredJwtException")
-					.errorMessage("Token expired, the token is not valid.")
-					.requestURL(request.getRequestURI())
-					.status(HttpStatus.UNAUTHORIZED)
-					.build();
-
-			response.setStatus(HttpStatus.UNAUTHORIZED.value());
-			response.setContentType(MediaType.APPLICATION_JSON.toString());
-
-			mapper.writeValue(response.getOutputStream(), exceptionDTO);
-
+			errorResponseRenderer.render(response, "ExpiredJwtException", "Token expired, the token is not valid.",
+					HttpStatus.UNAUTHORIZED, request.getRequestURI());
 		}
 		catch (UserResourceException e) {
-			ResourceExceptionDTO exceptionDTO = ResourceExceptionDTO.builder()
-					.errorCode(e.getErrorCode())
-					.errorMessage(e.getMessage())
-					.requestURL(request.getRequestURI())
-					.status(e.getStatus())
-					.build();
-
-			response.setStatus(e.getStatus().value());
-			response.setContentType(MediaType.APPLICATION_JSON.toString());
-
-			mapper.writeValue(response.getOutputStream(), exceptionDTO);
+			errorResponseRenderer.render(response, e.getErrorCode(), e.getMessage(), e.getStatus(),
+					request.getRequestURI());
 		}
 
 	}
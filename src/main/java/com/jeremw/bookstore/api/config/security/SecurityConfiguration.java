@@ -3,6 +3,8 @@ package com.jeremw.bookstore.api.config.security;
 import java.util.Arrays;
 import java.util.Collections;
 
+import com.jeremw.bookstore.api.book.BookController;
+import com.jeremw.bookstore.api.config.idempotency.IdempotencyFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,6 +27,7 @@ import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.HttpHeaders.ORIGIN;
 import static org.springframework.http.HttpMethod.DELETE;
 import static org.springframework.http.HttpMethod.GET;
+import static org.springframework.http.HttpMethod.HEAD;
 import static org.springframework.http.HttpMethod.POST;
 import static org.springframework.http.HttpMethod.PUT;
 import static org.springframework.web.bind.annotation.RequestMethod.PATCH;
@@ -93,8 +96,10 @@ public class SecurityConfiguration {
 		final CorsConfiguration config = new CorsConfiguration();
 		config.setAllowCredentials(true);
 		config.setAllowedOrigins(Collections.singletonList("http://localhost:3001"));
-		config.setAllowedHeaders(Arrays.asList(ORIGIN, CONTENT_TYPE, ACCEPT, AUTHORIZATION));
-		config.setAllowedMethods(Arrays.asList(GET.name(), POST.name(), DELETE.name(), PUT.name(), PATCH.name()));
+		config.setAllowedHeaders(Arrays.asList(ORIGIN, CONTENT_TYPE, ACCEPT, AUTHORIZATION,
+				IdempotencyFilter.IDEMPOTENCY_KEY_HEADER));
+		config.setAllowedMethods(Arrays.asList(GET.name(), HEAD.name(), POST.name(), DELETE.name(), PUT.name(), PATCH.name()));
+		config.setExposedHeaders(Arrays.asList(BookController.TOTAL_COUNT_HEADER, IdempotencyFilter.REPLAYED_HEADER));
 		source.registerCorsConfiguration("/**", config);
 		return new CorsFilter(source);
 
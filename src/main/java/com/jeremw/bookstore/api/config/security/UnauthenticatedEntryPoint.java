@@ -2,15 +2,14 @@ package com.jeremw.bookstore.api.config.security;
 
 import java.io.IOException;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.jeremw.bookstore.api.exception.ResourceExceptionDTO;
+import com.jeremw.bookstore.api.exception.ErrorLogLimiter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
@@ -19,7 +18,8 @@ import org.springframework.security.web.AuthenticationEntryPoint;
  *
  * <p>
  * This class handles the commencement of authentication for unauthenticated users and
- * sends an unauthorized response with relevant information.
+ * sends an unauthorized response with relevant information. The requests are logged
+ * without a stack trace, at most once per {@code error-log.interval}.
  * </p>
  *
  * @author Jérémy Woirhaye
@@ -28,8 +28,13 @@ import org.springframework.security.web.AuthenticationEntryPoint;
  */
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class UnauthenticatedEntryPoint implements AuthenticationEntryPoint {
 
+	private final ErrorResponseRenderer errorResponseRenderer;
+
+	private final ErrorLogLimiter errorLogLimiter;
+
 	/**
 	 * Handles the commencement of authentication for unauthenticated users.
 	 *
@@ -42,20 +47,15 @@ public class UnauthenticatedEntryPoint implements AuthenticationEntryPoint {
 	public void commence(HttpServletRequest request, HttpServletResponse response,
 			AuthenticationException authException) throws IOException {
 
-		log.info("Access denied exception occurred while accessing endpoint : {}", request.getRequestURL().toString(),
-				authException);
-
-		response.setStatus(HttpStatus.UNAUTHORIZED.value());
-		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-
-		ResourceExceptionDTO exceptionDTO = ResourceExceptionDTO.builder()
-				.errorCode("Unauthenticated")
-				.errorMessage("You are not allowed to reach this endpoint because you are unauthenticated.")
-				.requestURL(request.getRequestURL().toString())
-				.status(HttpStatus.UNAUTHORIZED)
-				.build();
+		long suppressed = errorLogLimiter.acquire("Unauthenticated");
+		if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+			log.info("Unauthenticated access to endpoint: {} ({}), similar errors not logged: {}",
+					request.getRequestURL().toString(), authException.getMessage(), suppressed);
+		}
 
-		new ObjectMapper().writeValue(response.getOutputStream(), exceptionDTO);
+		errorResponseRenderer.render(response, "Unauthenticated",
+				"You are not allowed to reach this endpoint because you are unauthenticated.", HttpStatus.UNAUTHORIZED,
+				request.getRequestURL().toString());
 	}
 
 }
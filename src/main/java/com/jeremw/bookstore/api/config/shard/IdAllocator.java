@@ -0,0 +1,24 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Strategy allocating the values of the identifiers, the shard being added by
+ * {@link ShardAwareIdGenerator}.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public interface IdAllocator {
+
+	/**
+	 * Allocates a value never returned before for the shard.
+	 *
+	 * @param shard   The index of the shard the entity is created on.
+	 * @param session The session creating the entity.
+	 * @return The value, on at most {@code 63 - ShardAwareIdGenerator.SHARD_BITS} bits.
+	 */
+	long allocate(int shard, SharedSessionContractImplementor session);
+
+}
@@ -0,0 +1,38 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class passing the {@link IdGeneratorProperties} to the identifier
+ * generators, which are created by Hibernate.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfiguration {
+
+	private final IdGeneratorProperties idGeneratorProperties;
+
+	/**
+	 * Adds the strategy and the node ID to the Hibernate settings.
+	 *
+	 * @return The customizer of the Hibernate properties.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer idGeneratorCustomizer() {
+		return properties -> {
+			properties.put(IdGeneratorProperties.STRATEGY_SETTING, idGeneratorProperties.getStrategy().name());
+			properties.put(IdGeneratorProperties.NODE_ID_SETTING, idGeneratorProperties.getNodeId());
+		};
+	}
+
+}
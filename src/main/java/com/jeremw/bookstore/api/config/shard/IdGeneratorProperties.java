@@ -0,0 +1,57 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the identifiers generated by {@link ShardAwareIdGenerator}.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "id-generator")
+public class IdGeneratorProperties {
+
+	/**
+	 * The Hibernate setting holding the strategy.
+	 */
+	public static final String STRATEGY_SETTING = "books.id_generator.strategy";
+
+	/**
+	 * The Hibernate setting holding the node ID.
+	 */
+	public static final String NODE_ID_SETTING = "books.id_generator.node_id";
+
+	/**
+	 * The strategy allocating the identifiers.
+	 */
+	private Strategy strategy = Strategy.SEQUENCE;
+
+	/**
+	 * The ID of this application node with the time-ordered strategy, unique among the
+	 * nodes sharing the databases.
+	 */
+	private int nodeId = 0;
+
+	/**
+	 * Strategies allocating the identifiers.
+	 */
+	public enum Strategy {
+
+		/**
+		 * Values of a database sequence, reserved by blocks, see {@link PooledSequenceAllocator}.
+		 */
+		SEQUENCE,
+
+		/**
+		 * Time-ordered values computed by the application, see {@link TimeOrderedAllocator}.
+		 * The IDs exceed 2^53, so JavaScript clients must not parse them as numbers.
+		 */
+		TIME_ORDERED
+
+	}
+
+}
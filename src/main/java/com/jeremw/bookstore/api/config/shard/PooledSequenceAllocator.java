@@ -0,0 +1,76 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Allocates the values from a database sequence, reserved by blocks (pooled-lo).
+ *
+ * <p>
+ * The sequence is incremented by the size of a block, so a single round trip serves a
+ * whole block of inserts. Each shard has its own sequence and its own block.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class PooledSequenceAllocator implements IdAllocator {
+
+	private final String sequenceName;
+
+	private final int allocationSize;
+
+	private final Map<Integer, Block> blocks = new ConcurrentHashMap<>();
+
+	public PooledSequenceAllocator(String sequenceName, int allocationSize) {
+		this.sequenceName = sequenceName;
+		this.allocationSize = allocationSize;
+	}
+
+	@Override
+	public long allocate(int shard, SharedSessionContractImplementor session) {
+		Block block = blocks.computeIfAbsent(shard, key -> new Block());
+		synchronized (block) {
+			if (block.next == block.end) {
+				block.next = nextSequenceValue(session);
+				block.end = block.next + allocationSize;
+			}
+			return block.next++;
+		}
+	}
+
+	private long nextSequenceValue(SharedSessionContractImplementor session) {
+		String sql = session.getJdbcServices().getDialect().getSequenceSupport().getSequenceNextValString(sequenceName);
+		JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement(sql);
+		try {
+			ResultSet resultSet = jdbcCoordinator.getResultSetReturn().extract(statement, sql);
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(e, "Could not read the sequence " + sequenceName,
+					sql);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release(statement);
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static final class Block {
+
+		private long next;
+
+		private long end;
+
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generates the identifier of an entity with {@link ShardAwareIdGenerator}, using the
+ * strategy configured by {@link IdGeneratorProperties}.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@IdGeneratorType(ShardAwareIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface ShardAwareId {
+
+	/**
+	 * The database sequence the values are drawn from, on each shard, with the sequence
+	 * strategy.
+	 */
+	String sequenceName();
+
+	/**
+	 * The increment of the sequence, which is the number of values reserved per call.
+	 */
+	int allocationSize() default 50;
+
+}
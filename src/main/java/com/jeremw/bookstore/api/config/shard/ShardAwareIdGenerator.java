@@ -0,0 +1,72 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * Identifier generator producing IDs unique across the shards.
+ *
+ * <p>
+ * The low {@value #SHARD_BITS} bits of an ID hold the shard it was created on and the
+ * other bits a value allocated for that shard by the {@link IdAllocator} of the configured
+ * strategy. An ID stays unique when its row is moved to another shard by a resharding.
+ * Without sharding, the shard bits are 0. The IDs are known before the insert, which lets
+ * Hibernate batch the inserts.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class ShardAwareIdGenerator implements IdentifierGenerator {
+
+	/**
+	 * The number of low bits of an ID holding the shard.
+	 */
+	public static final int SHARD_BITS = 10;
+
+	/**
+	 * The maximum number of shards.
+	 */
+	public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+	private final IdAllocator idAllocator;
+
+	public ShardAwareIdGenerator(ShardAwareId config, Member member, CustomIdGeneratorCreationContext context) {
+		Map<String, Object> settings = context.getServiceRegistry().requireService(ConfigurationService.class)
+				.getSettings();
+		IdGeneratorProperties.Strategy strategy = IdGeneratorProperties.Strategy.valueOf(String.valueOf(
+				settings.getOrDefault(IdGeneratorProperties.STRATEGY_SETTING, IdGeneratorProperties.Strategy.SEQUENCE)));
+
+		this.idAllocator = switch (strategy) {
+			case SEQUENCE -> new PooledSequenceAllocator(config.sequenceName(), config.allocationSize());
+			case TIME_ORDERED -> new TimeOrderedAllocator(
+					Integer.parseInt(String.valueOf(settings.getOrDefault(IdGeneratorProperties.NODE_ID_SETTING, 0))),
+					context.getRootClass().getTable().getQuotedName(),
+					context.getRootClass().getIdentifier().getColumns().get(0).getQuotedName());
+		};
+	}
+
+	/**
+	 * Returns the shard an ID was created on.
+	 *
+	 * @param id The ID.
+	 * @return The index of the shard.
+	 */
+	public static int shardOf(long id) {
+		return (int) (id & (MAX_SHARDS - 1));
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object object) {
+		Integer currentShard = ShardContext.current();
+		int shard = currentShard == null ? 0 : currentShard;
+		return idAllocator.allocate(shard, session) << SHARD_BITS | shard;
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.jeremw.bookstore.api.config.shard;
+
+/**
+ * Holds the shard the current thread works on.
+ *
+ * <p>
+ * No shard is bound outside of the book operations; the connections are then taken from
+ * the directory database holding the users and the refresh tokens.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class ShardContext {
+
+	private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+	private ShardContext() {
+	}
+
+	/**
+	 * Returns the shard bound to the current thread.
+	 *
+	 * @return The index of the shard, or {@code null} for the directory database.
+	 */
+	public static Integer current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Binds a shard to the current thread.
+	 *
+	 * @param shard The index of the shard, or {@code null} for the directory database.
+	 * @return The previously bound shard, to restore once the work is done.
+	 */
+	public static Integer bind(Integer shard) {
+		Integer previous = CURRENT.get();
+		if (shard == null) {
+			CURRENT.remove();
+		}
+		else {
+			CURRENT.set(shard);
+		}
+		return previous;
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.util.List;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+
+/**
+ * The connection pools of the shard databases.
+ *
+ * <p>
+ * Each shard is migrated from {@code db/shard} when it is opened. These migrations only
+ * create the book tables, as the users and the tables referencing them live in the
+ * directory database.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+public class ShardDataSources implements AutoCloseable {
+
+	private static final String SHARD_MIGRATIONS = "classpath:db/shard";
+
+	private final List<HikariDataSource> dataSources;
+
+	public ShardDataSources(List<HikariDataSource> dataSources) {
+		this.dataSources = List.copyOf(dataSources);
+	}
+
+	/**
+	 * Migrates the schema of every shard.
+	 */
+	public void migrate() {
+		for (HikariDataSource dataSource : dataSources) {
+			log.info("Migrating shard {}", dataSource.getPoolName());
+			Flyway.configure().dataSource(dataSource).locations(SHARD_MIGRATIONS).load().migrate();
+		}
+	}
+
+	/**
+	 * Returns the pool of a shard.
+	 *
+	 * @param shard The index of the shard.
+	 * @return The pool of the shard.
+	 */
+	public HikariDataSource get(int shard) {
+		return dataSources.get(shard);
+	}
+
+	/**
+	 * Returns the pools of all the shards, by shard index.
+	 *
+	 * @return The pools of the shards.
+	 */
+	public List<HikariDataSource> getAll() {
+		return dataSources;
+	}
+
+	public int size() {
+		return dataSources.size();
+	}
+
+	@Override
+	public void close() {
+		dataSources.forEach(HikariDataSource::close);
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the databases the books are sharded across.
+ *
+ * <p>
+ * The users and the refresh tokens stay in the directory database configured by the
+ * {@code spring.datasource} properties. The order of the nodes is significant: a node
+ * must keep its position when nodes are added.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.shards")
+public class ShardProperties {
+
+	/**
+	 * Whether the books are sharded by user.
+	 */
+	private boolean enabled = false;
+
+	/**
+	 * The maximum size of the connection pool of each shard.
+	 */
+	private int maximumPoolSize = 10;
+
+	/**
+	 * The shard databases.
+	 */
+	private List<Node> nodes = new ArrayList<>();
+
+	/**
+	 * Connection settings of one shard database.
+	 */
+	@Data
+	public static class Node {
+
+		private String url;
+
+		private String username;
+
+		private String password;
+
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+
+/**
+ * JMX endpoint moving the misplaced users to their shard.
+ *
+ * <p>
+ * It is only exposed over JMX, to the operators of the host, as a rebalance must run
+ * while the book operations are stopped.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@RequiredArgsConstructor
+@JmxEndpoint(id = "shardrebalance")
+public class ShardRebalanceEndpoint {
+
+	private final ShardRebalancer shardRebalancer;
+
+	/**
+	 * Moves the misplaced users to their shard.
+	 *
+	 * @return The status of the shards after the move.
+	 */
+	@WriteOperation
+	public List<ShardStatus> rebalance() {
+		return shardRebalancer.rebalance();
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Moves the books of the users placed on another shard by the router, after shards were
+ * added.
+ *
+ * <p>
+ * The books of a user are copied to the target shard before being deleted from the source
+ * one, and the copy overwrites the rows already present. An interrupted rebalance can
+ * therefore be run again. The tombstones of the deleted books are moved along with the
+ * books, so the delta sync of the user carries on from the target shard, while the
+ * deleted books waiting for the purge are dropped. The rebalance must run while the book
+ * operations are stopped: a book written to the source shard during the move would be
+ * lost.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardRebalancer {
+
+	private static final String BOOK_COLUMNS = "id, user_id, title, description, author, change_seq";
+
+	private static final String TOMBSTONE_COLUMNS = "book_id, user_id, change_seq";
+
+	private final ShardDataSources shardDataSources;
+
+	private final ShardRouter shardRouter;
+
+	private final Map<Integer, Long> movedBooks = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the content of each shard.
+	 *
+	 * @return The status of the shards, by shard index.
+	 */
+	public List<ShardStatus> status() {
+		List<ShardStatus> statuses = new ArrayList<>();
+		for (int shard = 0; shard < shardDataSources.size(); shard++) {
+			HikariDataSource dataSource = shardDataSources.get(shard);
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+			List<Long> userIds = userIds(jdbcTemplate);
+			int currentShard = shard;
+			statuses.add(ShardStatus.builder()
+					.shard(shard)
+					.poolName(dataSource.getPoolName())
+					.books(jdbcTemplate.queryForObject("select count(*) from book", Long.class))
+					.users(userIds.size())
+					.misplacedUsers(userIds.stream().filter(userId -> shardRouter.shardFor(userId) != currentShard).count())
+					.movedBooks(movedBooks.getOrDefault(shard, 0L))
+					.build());
+		}
+		return statuses;
+	}
+
+	/**
+	 * Moves every misplaced user to its shard.
+	 *
+	 * @return The status of the shards after the move.
+	 */
+	public synchronized List<ShardStatus> rebalance() {
+		movedBooks.clear();
+		for (int shard = 0; shard < shardDataSources.size(); shard++) {
+			JdbcTemplate source = new JdbcTemplate(shardDataSources.get(shard));
+			long moved = 0;
+			for (Long userId : userIds(source)) {
+				int target = shardRouter.shardFor(userId);
+				if (target != shard) {
+					moved += moveUser(userId, source, new JdbcTemplate(shardDataSources.get(target)));
+					log.info("Moved the books of user {} from shard {} to shard {}", userId, shard, target);
+				}
+			}
+			movedBooks.put(shard, moved);
+		}
+		return status();
+	}
+
+	private int moveUser(Long userId, JdbcTemplate source, JdbcTemplate target) {
+		List<Map<String, Object>> books = source.queryForList("select " + BOOK_COLUMNS
+				+ " from book where user_id = ? and deleted = false", userId);
+
+		SqlParameterSource[] rows = books.stream()
+				.map(book -> new MapSqlParameterSource()
+						.addValue("id", book.get("ID"))
+						.addValue("userId", book.get("USER_ID"))
+						.addValue("title", book.get("TITLE"))
+						.addValue("description", book.get("DESCRIPTION"))
+						.addValue("author", book.get("AUTHOR"))
+						.addValue("changeSeq", book.get("CHANGE_SEQ")))
+				.toArray(SqlParameterSource[]::new);
+		new NamedParameterJdbcTemplate(target).batchUpdate("merge into book (" + BOOK_COLUMNS
+				+ ") key (id) values (:id, :userId, :title, :description, :author, :changeSeq)", rows);
+
+		SqlParameterSource[] tombstones = source.queryForList("select " + TOMBSTONE_COLUMNS
+						+ " from book_tombstone where user_id = ?", userId).stream()
+				.map(tombstone -> new MapSqlParameterSource()
+						.addValue("bookId", tombstone.get("BOOK_ID"))
+						.addValue("userId", tombstone.get("USER_ID"))
+						.addValue("changeSeq", tombstone.get("CHANGE_SEQ")))
+				.toArray(SqlParameterSource[]::new);
+		new NamedParameterJdbcTemplate(target).batchUpdate("merge into book_tombstone (" + TOMBSTONE_COLUMNS
+				+ ") key (book_id) values (:bookId, :userId, :changeSeq)", tombstones);
+
+		source.update("delete from book where user_id = ?", userId);
+		source.update("delete from book_tombstone where user_id = ?", userId);
+		return books.size();
+	}
+
+	private static List<Long> userIds(JdbcTemplate jdbcTemplate) {
+		return jdbcTemplate.queryForList("select distinct user_id from book", Long.class);
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.jeremw.bookstore.api.config.shard;
+
+/**
+ * Maps each user to the shard holding their books.
+ *
+ * <p>
+ * The user ID is mixed and placed with a jump consistent hash, so that growing from N to
+ * N + 1 shards only moves about one user out of N + 1, the minimum possible.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class ShardRouter {
+
+	private final int shardCount;
+
+	public ShardRouter(int shardCount) {
+		if (shardCount < 1 || shardCount > ShardAwareIdGenerator.MAX_SHARDS) {
+			throw new IllegalArgumentException("The number of shards must be between 1 and "
+					+ ShardAwareIdGenerator.MAX_SHARDS + ".");
+		}
+		this.shardCount = shardCount;
+	}
+
+	/**
+	 * Returns the number of shards.
+	 *
+	 * @return The number of shards.
+	 */
+	public int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * Returns the shard holding the books of a user.
+	 *
+	 * @param userId The ID of the user.
+	 * @return The index of the shard.
+	 */
+	public int shardFor(long userId) {
+		return jumpConsistentHash(mix(userId), shardCount);
+	}
+
+	/**
+	 * Jump consistent hash of Lamping and Veach.
+	 */
+	static int jumpConsistentHash(long key, int buckets) {
+		long bucket = -1;
+		long next = 0;
+		while (next < buckets) {
+			bucket = next;
+			key = key * 2862933555777941757L + 1;
+			next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+		}
+		return (int) bucket;
+	}
+
+	/**
+	 * Final mix of MurmurHash3, spreading the sequential user IDs.
+	 */
+	private static long mix(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		key *= 0xc4ceb9fe1a85ec53L;
+		key ^= key >>> 33;
+		return key;
+	}
+
+}
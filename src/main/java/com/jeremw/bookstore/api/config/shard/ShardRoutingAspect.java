@@ -0,0 +1,108 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+
+/**
+ * Aspect binding the shard of the user to the book operations.
+ *
+ * <p>
+ * It runs before the transaction is opened, so the whole transaction works on the shard.
+ * The user operations called from a book operation, such as the lookup of the owner of a
+ * new book, run in their own transaction on the directory database.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Aspect
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardRoutingAspect {
+
+	private static final DefaultTransactionAttribute DIRECTORY_TRANSACTION = new DefaultTransactionAttribute(
+			TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+	private final ShardRouter shardRouter;
+
+	private final ObjectProvider<PlatformTransactionManager> transactionManager;
+
+	/**
+	 * Runs a book operation on the shard of the user it is scoped to.
+	 *
+	 * <p>
+	 * The ID of the user is read from the arguments rather than bound by the pointcut, as the
+	 * aspect runs before the interceptor exposing the matched join point.
+	 * </p>
+	 *
+	 * @param joinPoint The intercepted book operation, whose first argument is the ID of the
+	 *                  user owning the books.
+	 * @return The result of the operation.
+	 * @throws Throwable If the operation fails.
+	 */
+	@Around("execution(* com.jeremw.bookstore.api.book.BookServiceImpl.*(..)) && args(Long, ..)")
+	public Object routeToUserShard(ProceedingJoinPoint joinPoint) throws Throwable {
+		Long userId = (Long) joinPoint.getArgs()[0];
+		if (userId == null) {
+			return joinPoint.proceed();
+		}
+
+		Integer previous = ShardContext.bind(shardRouter.shardFor(userId));
+		try {
+			return joinPoint.proceed();
+		}
+		finally {
+			ShardContext.bind(previous);
+		}
+	}
+
+	/**
+	 * Runs a user operation called from a book operation on the directory database.
+	 *
+	 * @param joinPoint The intercepted user operation.
+	 * @return The result of the operation.
+	 * @throws Throwable If the operation fails.
+	 */
+	@Around("execution(* com.jeremw.bookstore.api.user.UserServiceImpl.*(..))")
+	public Object routeToDirectory(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (ShardContext.current() == null) {
+			return joinPoint.proceed();
+		}
+
+		Integer previous = ShardContext.bind(null);
+		try {
+			PlatformTransactionManager manager = transactionManager.getObject();
+			TransactionStatus status = manager.getTransaction(DIRECTORY_TRANSACTION);
+			Object result;
+			try {
+				result = joinPoint.proceed();
+			}
+			catch (Throwable e) {
+				if (DIRECTORY_TRANSACTION.rollbackOn(e)) {
+					manager.rollback(status);
+				}
+				else {
+					manager.commit(status);
+				}
+				throw e;
+			}
+			manager.commit(status);
+			return result;
+		}
+		finally {
+			ShardContext.bind(previous);
+		}
+	}
+
+}
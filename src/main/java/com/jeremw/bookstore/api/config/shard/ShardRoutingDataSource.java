@@ -0,0 +1,35 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Data source taking the connections from the shard bound to the current thread, or from
+ * the directory database when no shard is bound.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+	public ShardRoutingDataSource(DataSource directoryDataSource, ShardDataSources shardDataSources) {
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		for (int shard = 0; shard < shardDataSources.size(); shard++) {
+			targetDataSources.put(shard, shardDataSources.get(shard));
+		}
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(directoryDataSource);
+		setLenientFallback(false);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return ShardContext.current();
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Snapshot of the content of one shard.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Data
+@Builder
+public class ShardStatus {
+
+	private int shard;
+
+	private String poolName;
+
+	private long books;
+
+	private long users;
+
+	/**
+	 * The users whose books are on this shard although the router places them on another.
+	 */
+	private long misplacedUsers;
+
+	/**
+	 * The books moved out of this shard by the last rebalance.
+	 */
+	private long movedBooks;
+
+}
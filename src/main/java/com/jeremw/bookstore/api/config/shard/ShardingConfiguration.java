@@ -0,0 +1,162 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration class sharding the books by user across several databases.
+ *
+ * <p>
+ * The directory database configured by the {@code spring.datasource} properties keeps
+ * the users and the refresh tokens, the books of a user live on the shard chosen by
+ * {@link ShardRouter}. A single entity manager works on every database through
+ * {@link ShardRoutingDataSource}, the shard being bound by {@link ShardRoutingAspect}
+ * around each book operation. It cannot be combined with the read replica.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ShardProperties.class)
+@ConditionalOnProperty(prefix = "datasource.shards", name = "enabled")
+public class ShardingConfiguration {
+
+	private final ShardProperties shardProperties;
+
+	/**
+	 * Defines the connection pool of the directory database.
+	 *
+	 * @param dataSourceProperties The properties of the directory database.
+	 * @return The pool of the directory database.
+	 */
+	@Bean
+	@FlywayDataSource
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource directoryDataSource(DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 * Defines the connection pools of the shards, migrated on startup.
+	 *
+	 * @return The pools of the shards.
+	 */
+	@Bean(destroyMethod = "close")
+	public ShardDataSources shardDataSources() {
+		if (shardProperties.getNodes().isEmpty()) {
+			throw new IllegalStateException("At least one shard must be configured in datasource.shards.nodes.");
+		}
+
+		List<HikariDataSource> dataSources = new ArrayList<>();
+		for (ShardProperties.Node node : shardProperties.getNodes()) {
+			HikariDataSource dataSource = DataSourceBuilder.create()
+					.type(HikariDataSource.class)
+					.url(node.getUrl())
+					.username(node.getUsername())
+					.password(node.getPassword())
+					.build();
+			dataSource.setPoolName("books-shard-" + dataSources.size());
+			dataSource.setMaximumPoolSize(shardProperties.getMaximumPoolSize());
+			dataSources.add(dataSource);
+		}
+
+		ShardDataSources shardDataSources = new ShardDataSources(dataSources);
+		shardDataSources.migrate();
+		return shardDataSources;
+	}
+
+	/**
+	 * Defines the router placing the users on the shards.
+	 *
+	 * @return The router over the configured shards.
+	 */
+	@Bean
+	public ShardRouter shardRouter() {
+		return new ShardRouter(shardProperties.getNodes().size());
+	}
+
+	/**
+	 * Defines the application data source, routing the connections to the bound shard.
+	 *
+	 * @param directoryDataSource The pool of the directory database.
+	 * @param shardDataSources    The pools of the shards.
+	 * @return The routing data source.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("directoryDataSource") HikariDataSource directoryDataSource,
+			ShardDataSources shardDataSources) {
+		ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(directoryDataSource, shardDataSources);
+		routingDataSource.afterPropertiesSet();
+		return routingDataSource;
+	}
+
+	/**
+	 * Defines the aspect binding the shard of the user to the book operations.
+	 *
+	 * @param shardRouter        The router placing the users on the shards.
+	 * @param transactionManager The manager of the directory transactions.
+	 * @return The routing aspect.
+	 */
+	@Bean
+	public ShardRoutingAspect shardRoutingAspect(ShardRouter shardRouter,
+			ObjectProvider<PlatformTransactionManager> transactionManager) {
+		return new ShardRoutingAspect(shardRouter, transactionManager);
+	}
+
+	/**
+	 * Defines the rebalancer moving the users to their shard.
+	 *
+	 * @param shardDataSources The pools of the shards.
+	 * @param shardRouter      The router placing the users on the shards.
+	 * @return The rebalancer.
+	 */
+	@Bean
+	public ShardRebalancer shardRebalancer(ShardDataSources shardDataSources, ShardRouter shardRouter) {
+		return new ShardRebalancer(shardDataSources, shardRouter);
+	}
+
+	/**
+	 * Defines the actuator endpoint of the shards.
+	 *
+	 * @param shardRebalancer The rebalancer.
+	 * @return The endpoint.
+	 */
+	@Bean
+	public ShardsEndpoint shardsEndpoint(ShardRebalancer shardRebalancer) {
+		return new ShardsEndpoint(shardRebalancer);
+	}
+
+	/**
+	 * Defines the JMX endpoint rebalancing the shards.
+	 *
+	 * @param shardRebalancer The rebalancer.
+	 * @return The endpoint.
+	 */
+	@Bean
+	public ShardRebalanceEndpoint shardRebalanceEndpoint(ShardRebalancer shardRebalancer) {
+		return new ShardRebalanceEndpoint(shardRebalancer);
+	}
+
+}
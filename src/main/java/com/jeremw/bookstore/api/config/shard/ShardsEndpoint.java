@@ -0,0 +1,38 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint listing the content of the shards.
+ *
+ * <p>
+ * The rebalance is not part of it, as it must only run while the book operations are
+ * stopped; it is exposed over JMX by {@link ShardRebalanceEndpoint}.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "shards")
+public class ShardsEndpoint {
+
+	private final ShardRebalancer shardRebalancer;
+
+	/**
+	 * Returns the content of each shard.
+	 *
+	 * @return The status of the shards.
+	 */
+	@ReadOperation
+	public List<ShardStatus> shards() {
+		return shardRebalancer.status();
+	}
+
+}
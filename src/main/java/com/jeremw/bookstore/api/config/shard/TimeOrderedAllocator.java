@@ -0,0 +1,158 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Allocates time-ordered values without any database round trip.
+ *
+ * <p>
+ * A value holds, from the high to the low bits, the milliseconds elapsed since
+ * {@link #EPOCH} on {@value #TIMESTAMP_BITS} bits, the node ID on {@value #NODE_BITS}
+ * bits and a counter on {@value #COUNTER_BITS} bits. The values of a shard keep
+ * increasing, so the new rows are appended at the end of the primary key index. When the
+ * counter of a millisecond is exhausted or the clock goes backwards, the allocation
+ * carries on from the last millisecond used instead of waiting for the clock.
+ * </p>
+ *
+ * <p>
+ * Since the allocation may run ahead of the clock, the last millisecond used is not lost
+ * on a restart: the first allocation for a shard reads the greatest ID of its table and
+ * carries on after its millisecond. A node restarting, or taking over the node ID of a
+ * failed one, never reissues an ID already stored on the shard.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public class TimeOrderedAllocator implements IdAllocator {
+
+	/**
+	 * The origin of the timestamps.
+	 */
+	public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+	public static final int TIMESTAMP_BITS = 41;
+
+	public static final int NODE_BITS = 5;
+
+	public static final int COUNTER_BITS = 7;
+
+	/**
+	 * The maximum number of application nodes allocating IDs concurrently.
+	 */
+	public static final int MAX_NODES = 1 << NODE_BITS;
+
+	private static final long MAX_COUNTER = (1L << COUNTER_BITS) - 1;
+
+	private final long nodeId;
+
+	private final LongSupplier clock;
+
+	private final ToLongFunction<SharedSessionContractImplementor> lastValue;
+
+	private final Map<Integer, State> states = new ConcurrentHashMap<>();
+
+	/**
+	 * @param nodeId     The ID of this application node.
+	 * @param tableName  The table holding the IDs, read on the first allocation for a shard.
+	 * @param columnName The column holding the IDs.
+	 */
+	public TimeOrderedAllocator(int nodeId, String tableName, String columnName) {
+		this(nodeId, System::currentTimeMillis, session -> lastValue(session, tableName, columnName));
+	}
+
+	TimeOrderedAllocator(int nodeId, LongSupplier clock, ToLongFunction<SharedSessionContractImplementor> lastValue) {
+		if (nodeId < 0 || nodeId >= MAX_NODES) {
+			throw new IllegalArgumentException("The node ID must be between 0 and " + (MAX_NODES - 1) + ".");
+		}
+		this.nodeId = nodeId;
+		this.clock = clock;
+		this.lastValue = lastValue;
+	}
+
+	@Override
+	public long allocate(int shard, SharedSessionContractImplementor session) {
+		State state = states.computeIfAbsent(shard, key -> new State());
+		synchronized (state) {
+			if (!state.seeded) {
+				long value = lastValue.applyAsLong(session);
+				if (value >= 0) {
+					state.timestamp = value >>> (NODE_BITS + COUNTER_BITS);
+					state.counter = MAX_COUNTER;
+				}
+				state.seeded = true;
+			}
+			long now = clock.getAsLong() - EPOCH.toEpochMilli();
+			if (now > state.timestamp) {
+				state.timestamp = now;
+				state.counter = 0;
+			}
+			else if (state.counter < MAX_COUNTER) {
+				state.counter++;
+			}
+			else {
+				state.timestamp++;
+				state.counter = 0;
+			}
+			return state.timestamp << (NODE_BITS + COUNTER_BITS) | nodeId << COUNTER_BITS | state.counter;
+		}
+	}
+
+	/**
+	 * Returns the instant a value was allocated at.
+	 *
+	 * @param value The value, without the shard bits.
+	 * @return The instant of the allocation.
+	 */
+	public static Instant timestampOf(long value) {
+		return EPOCH.plusMillis(value >>> (NODE_BITS + COUNTER_BITS));
+	}
+
+	/**
+	 * Reads the greatest value stored in the table of the shard the session is connected
+	 * to.
+	 *
+	 * @return The value, without the shard bits, or -1 if the table is empty.
+	 */
+	private static long lastValue(SharedSessionContractImplementor session, String tableName, String columnName) {
+		String sql = "select max(" + columnName + ") from " + tableName;
+		JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement(sql);
+		try {
+			ResultSet resultSet = jdbcCoordinator.getResultSetReturn().extract(statement, sql);
+			resultSet.next();
+			long id = resultSet.getLong(1);
+			return resultSet.wasNull() ? -1 : id >>> ShardAwareIdGenerator.SHARD_BITS;
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(e, "Could not read the last ID of " + tableName,
+					sql);
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release(statement);
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static final class State {
+
+		private boolean seeded;
+
+		private long timestamp = -1;
+
+		private long counter;
+
+	}
+
+}
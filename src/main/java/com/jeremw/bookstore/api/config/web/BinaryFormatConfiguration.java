@@ -0,0 +1,51 @@
+package com.jeremw.bookstore.api.config.web;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuration class registering the binary formats of the API payloads.
+ *
+ * <p>
+ * The CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile})
+ * converters are chosen from the {@code Accept} and {@code Content-Type} headers of the
+ * request, JSON stays the default format. Both converters are built from the Jackson
+ * builder of the application, the payloads have the same fields in every format.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Configuration
+public class BinaryFormatConfiguration {
+
+	/**
+	 * Defines the converter of the CBOR payloads.
+	 *
+	 * @param builder The Jackson builder of the application.
+	 * @return An instance of MappingJackson2CborHttpMessageConverter.
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	/**
+	 * Defines the converter of the Smile payloads.
+	 *
+	 * @param builder The Jackson builder of the application.
+	 * @return An instance of MappingJackson2SmileHttpMessageConverter.
+	 */
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.jeremw.bookstore.api.config.web;
+
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+
+/**
+ * Configuration class of the compression of the responses.
+ *
+ * <p>
+ * The compressed bodies are cached by the digest of their uncompressed content, which is
+ * also their ETag. A cached body is therefore only ever sent for the exact bytes it was
+ * compressed from, whoever the requesting user is.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(CompressionProperties.class)
+@ConditionalOnProperty(prefix = "response-compression", name = "enabled", matchIfMissing = true)
+public class CompressionConfiguration {
+
+	private final CompressionProperties compressionProperties;
+
+	/**
+	 * Defines the filter compressing the responses.
+	 *
+	 * @param meterRegistry The registry publishing the metrics of the compressed bodies cache.
+	 * @return An instance of ResponseCompressionFilter.
+	 */
+	@Bean
+	public ResponseCompressionFilter responseCompressionFilter(MeterRegistry meterRegistry) {
+		Cache<String, byte[]> compressedBodies = Caffeine.newBuilder()
+				.maximumWeight(compressionProperties.getCache().getMaxSize().toBytes())
+				.<String, byte[]>weigher((etag, body) -> body.length)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, compressedBodies, "compressed-bodies");
+
+		List<MediaType> mimeTypes = compressionProperties.getMimeTypes().stream()
+				.map(MediaType::parseMediaType)
+				.toList();
+		return new ResponseCompressionFilter(mimeTypes, compressionProperties.getMinResponseSize().toBytes(),
+				compressedBodies);
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.jeremw.bookstore.api.config.web;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration of the compression of the responses.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@ConfigurationProperties(prefix = "response-compression")
+public class CompressionProperties {
+
+	/**
+	 * Whether the responses are compressed.
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * The size under which a response is sent uncompressed.
+	 */
+	private DataSize minResponseSize = DataSize.ofKilobytes(2);
+
+	/**
+	 * The media types of the compressed responses, may use wildcards such as
+	 * {@code application/*+json}.
+	 */
+	private List<String> mimeTypes = new ArrayList<>(List.of("application/json", "application/*+json"));
+
+	/**
+	 * The settings of the cache of the compressed bodies.
+	 */
+	private Cache cache = new Cache();
+
+	/**
+	 * Settings of the cache of the compressed bodies.
+	 */
+	@Data
+	public static class Cache {
+
+		/**
+		 * The maximum total size of the cached compressed bodies, 0 to disable the cache.
+		 */
+		private DataSize maxSize = DataSize.ofMegabytes(16);
+
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.jeremw.bookstore.api.config.web;
+
+import java.io.IOException;
+
+/**
+ * Response body written element by element as an array, in the negotiated Jackson format.
+ *
+ * <p>
+ * The body is written by {@link JsonStreamHttpMessageConverter} on the request thread:
+ * each element is serialized as soon as it is produced, without collecting the elements
+ * first.
+ * </p>
+ *
+ * @param <T> The type of the elements.
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@FunctionalInterface
+public interface JsonStream<T> {
+
+	/**
+	 * Produces the elements of the array.
+	 *
+	 * @param writer The writer of the elements.
+	 * @throws IOException If an I/O error occurs during response writing.
+	 */
+	void writeTo(Writer<T> writer) throws IOException;
+
+	/**
+	 * Writer of the elements of a {@link JsonStream}.
+	 *
+	 * @param <T> The type of the elements.
+	 */
+	interface Writer<T> {
+
+		/**
+		 * Sets a header of the response, before the first element is written.
+		 *
+		 * @param name  The name of the header.
+		 * @param value The value of the header.
+		 */
+		void header(String name, String value);
+
+		/**
+		 * Writes the next element of the array.
+		 *
+		 * @param element The element.
+		 * @throws IOException If an I/O error occurs during response writing.
+		 */
+		void write(T element) throws IOException;
+
+	}
+
+}
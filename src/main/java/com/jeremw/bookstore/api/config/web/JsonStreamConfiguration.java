@@ -0,0 +1,48 @@
+package com.jeremw.bookstore.api.config.web;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Configuration class registering the converter of the {@link JsonStream} bodies.
+ *
+ * <p>
+ * The streams are written in the same formats as the other payloads, with the same
+ * mappers: JSON by default, CBOR or Smile when the client asks for them.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Configuration
+public class JsonStreamConfiguration {
+
+	/**
+	 * Defines the converter of the streamed arrays.
+	 *
+	 * @param objectMapper              The JSON mapper of the application.
+	 * @param cborHttpMessageConverter  The converter of the CBOR payloads.
+	 * @param smileHttpMessageConverter The converter of the Smile payloads.
+	 * @return An instance of JsonStreamHttpMessageConverter.
+	 */
+	@Bean
+	public JsonStreamHttpMessageConverter jsonStreamHttpMessageConverter(ObjectMapper objectMapper,
+			MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+			MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter) {
+		Map<MediaType, ObjectMapper> objectMappers = new LinkedHashMap<>();
+		objectMappers.put(MediaType.APPLICATION_JSON, objectMapper);
+		objectMappers.put(MediaType.APPLICATION_CBOR, cborHttpMessageConverter.getObjectMapper());
+		objectMappers.put(new MediaType("application", "x-jackson-smile"), smileHttpMessageConverter.getObjectMapper());
+		return new JsonStreamHttpMessageConverter(objectMappers);
+	}
+
+}
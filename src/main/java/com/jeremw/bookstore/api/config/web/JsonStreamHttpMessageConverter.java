@@ -0,0 +1,141 @@
+package com.jeremw.bookstore.api.config.web;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Converter writing the {@link JsonStream} bodies straight to the response.
+ *
+ * <p>
+ * The elements are serialized one by one to a single {@link JsonGenerator} opened on the
+ * response, whose buffers are recycled by Jackson between the requests. The response is
+ * not flushed after each element, the generator only writes through once its buffer is
+ * full.
+ * </p>
+ *
+ * <p>
+ * The response is marked as streamed, so that {@link ResponseCompressionFilter} compresses
+ * it on the fly rather than buffering it.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+public class JsonStreamHttpMessageConverter extends AbstractHttpMessageConverter<JsonStream<?>> {
+
+	private final Map<MediaType, ObjectMapper> objectMappers;
+
+	/**
+	 * Creates the converter.
+	 *
+	 * @param objectMappers The mappers of the supported media types, the first one being the
+	 *                      default.
+	 */
+	public JsonStreamHttpMessageConverter(Map<MediaType, ObjectMapper> objectMappers) {
+		super(objectMappers.keySet().toArray(MediaType[]::new));
+		this.objectMappers = objectMappers;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return JsonStream.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected JsonStream<?> readInternal(Class<? extends JsonStream<?>> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("A JSON stream cannot be read", inputMessage);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void writeInternal(JsonStream<?> jsonStream, HttpOutputMessage outputMessage) throws IOException {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes != null) {
+			requestAttributes.setAttribute(ResponseCompressionFilter.STREAMED_ATTRIBUTE, Boolean.TRUE,
+					RequestAttributes.SCOPE_REQUEST);
+		}
+		ObjectMapper objectMapper = getObjectMapper(outputMessage.getHeaders().getContentType());
+		GeneratorWriter writer = new GeneratorWriter(outputMessage, objectMapper);
+		((JsonStream<Object>) jsonStream).writeTo(writer);
+		writer.close();
+	}
+
+	private ObjectMapper getObjectMapper(MediaType contentType) {
+		for (Map.Entry<MediaType, ObjectMapper> objectMapper : objectMappers.entrySet()) {
+			if (contentType == null || objectMapper.getKey().isCompatibleWith(contentType)) {
+				return objectMapper.getValue();
+			}
+		}
+		throw new IllegalStateException("No mapper for the content type " + contentType);
+	}
+
+	/**
+	 * Writer opening the generator and the array on the first element.
+	 */
+	private static class GeneratorWriter implements JsonStream.Writer<Object> {
+
+		private final HttpOutputMessage outputMessage;
+
+		private final ObjectMapper objectMapper;
+
+		private final ObjectWriter objectWriter;
+
+		private JsonGenerator generator;
+
+		GeneratorWriter(HttpOutputMessage outputMessage, ObjectMapper objectMapper) {
+			this.outputMessage = outputMessage;
+			this.objectMapper = objectMapper;
+			this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		}
+
+		@Override
+		public void header(String name, String value) {
+			if (generator != null) {
+				throw new IllegalStateException("The header " + name + " is set after the first element");
+			}
+			outputMessage.getHeaders().set(name, value);
+		}
+
+		@Override
+		public void write(Object element) throws IOException {
+			start();
+			objectWriter.writeValue(generator, element);
+		}
+
+		void close() throws IOException {
+			start();
+			generator.writeEndArray();
+			generator.close();
+		}
+
+		private void start() throws IOException {
+			if (generator == null) {
+				generator = objectMapper.getFactory()
+						.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()));
+				generator.writeStartArray();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,511 @@
+package com.jeremw.bookstore.api.config.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.FastByteArrayOutputStream;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filter compressing the responses and answering the conditional requests.
+ *
+ * <p>
+ * The body of a successful GET response of one of the compressed media types is
+ * buffered. Its ETag is the digest of the uncompressed bytes, so a client polling an
+ * unchanged resource gets a {@code 304 Not Modified} without a body. Bodies larger than
+ * the minimum size are sent with the gzip encoding to the clients accepting it. The gzip
+ * bytes are cached by ETag, so that an unchanged payload is only compressed once.
+ * </p>
+ *
+ * <p>
+ * A body marked as streamed with {@link #STREAMED_ATTRIBUTE}, such as a
+ * {@link JsonStream}, is never buffered and has no ETag: it is compressed on the fly to
+ * the clients accepting gzip, whatever its size, so that it is never held in memory.
+ * </p>
+ *
+ * <p>
+ * The other responses, such as the event streams, are written through as soon as their
+ * content type is known.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+	/**
+	 * The request attribute marking the response body as streamed, to be set before the
+	 * body is written.
+	 */
+	public static final String STREAMED_ATTRIBUTE = ResponseCompressionFilter.class.getName() + ".STREAMED";
+
+	private static final String GZIP = "gzip";
+
+	private static final int GZIP_BUFFER_SIZE = 8192;
+
+	private final List<MediaType> mimeTypes;
+
+	private final long minResponseSize;
+
+	private final Cache<String, byte[]> compressedBodies;
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param mimeTypes        The media types of the compressed responses.
+	 * @param minResponseSize  The size in bytes under which a response is sent uncompressed.
+	 * @param compressedBodies The cache of the gzip bodies, keyed by ETag.
+	 */
+	public ResponseCompressionFilter(List<MediaType> mimeTypes, long minResponseSize,
+			Cache<String, byte[]> compressedBodies) {
+		this.mimeTypes = mimeTypes;
+		this.minResponseSize = minResponseSize;
+		this.compressedBodies = compressedBodies;
+	}
+
+	/**
+	 * Buffers the eligible response, then sends it compressed or not modified. A streamed
+	 * response is compressed as it is written instead.
+	 *
+	 * @param request     the HTTP servlet request
+	 * @param response    the HTTP servlet response
+	 * @param filterChain the filter chain for invoking the next filter in the chain
+	 * @throws ServletException if a servlet-specific error occurs while handling the
+	 *                          request
+	 * @throws IOException      if an I/O error occurs while processing the request
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (!HttpMethod.GET.matches(request.getMethod())) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		BufferingResponseWrapper responseWrapper = new BufferingResponseWrapper(request, response);
+		filterChain.doFilter(request, responseWrapper);
+		responseWrapper.finishCompression();
+
+		byte[] body = responseWrapper.getBufferedBody();
+		if (body != null) {
+			writeBody(request, response, body);
+		}
+	}
+
+	private void writeBody(HttpServletRequest request, HttpServletResponse response, byte[] body)
+			throws IOException {
+		if (response.getStatus() != HttpServletResponse.SC_OK) {
+			writeContent(response, body);
+			return;
+		}
+
+		String etag = "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+		if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+			return;
+		}
+
+		if (body.length < minResponseSize) {
+			writeContent(response, body);
+			return;
+		}
+
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (!acceptsGzip(request)) {
+			writeContent(response, body);
+			return;
+		}
+
+		response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+		writeContent(response, compressedBodies.get(etag, key -> gzip(body)));
+	}
+
+	private static void writeContent(HttpServletResponse response, byte[] content) throws IOException {
+		response.setContentLength(content.length);
+		response.getOutputStream().write(content);
+	}
+
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+		try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressed)) {
+			gzipOutputStream.write(body);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to compress the response body", ex);
+		}
+		return compressed.toByteArray();
+	}
+
+	private static boolean acceptsGzip(HttpServletRequest request) {
+		String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parameters = coding.split(";");
+			String name = parameters[0].trim();
+			if (name.equalsIgnoreCase(GZIP) || name.equals("*")) {
+				return parameters.length == 1 || !parameters[1].trim().matches("q=0(\\.0*)?");
+			}
+		}
+		return false;
+	}
+
+	private boolean isCompressible(String contentType) {
+		if (contentType == null) {
+			return false;
+		}
+		MediaType mediaType = MediaType.parseMediaType(contentType);
+		return mimeTypes.stream().anyMatch(mimeType -> mimeType.includes(mediaType));
+	}
+
+	/**
+	 * Response wrapper buffering the body, or compressing a streamed body, when the
+	 * response turns out to be eligible.
+	 *
+	 * <p>
+	 * The decision is taken when the body starts to be written, once the content type is
+	 * known. The length of a buffered body is only set when it is sent, a compressed
+	 * stream has no length.
+	 * </p>
+	 */
+	class BufferingResponseWrapper extends HttpServletResponseWrapper {
+
+		private final HttpServletRequest request;
+
+		private FastByteArrayOutputStream buffer;
+
+		private boolean decided;
+
+		private long contentLength = -1;
+
+		private GzipOutputStream gzipStream;
+
+		private ServletOutputStream outputStream;
+
+		private PrintWriter writer;
+
+		BufferingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+			super(response);
+			this.request = request;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			decide();
+			if (buffer == null && gzipStream == null) {
+				return super.getOutputStream();
+			}
+			if (outputStream == null) {
+				outputStream = buffer != null ? new BufferOutputStream(buffer) : gzipStream;
+			}
+			return outputStream;
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			decide();
+			if (buffer == null && gzipStream == null) {
+				return super.getWriter();
+			}
+			if (writer == null) {
+				writer = new PrintWriter(new OutputStreamWriter(buffer != null ? buffer : gzipStream,
+						Charset.forName(getCharacterEncoding())));
+			}
+			return writer;
+		}
+
+		@Override
+		public void setContentLength(int len) {
+			setContentLengthLong(len);
+		}
+
+		@Override
+		public void setContentLengthLong(long len) {
+			if (decided && buffer == null && gzipStream == null) {
+				super.setContentLengthLong(len);
+			}
+			else if (!decided) {
+				contentLength = len;
+			}
+		}
+
+		@Override
+		public void setHeader(String name, String value) {
+			if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+				setContentLengthLong(Long.parseLong(value));
+			}
+			else {
+				super.setHeader(name, value);
+			}
+		}
+
+		@Override
+		public void addHeader(String name, String value) {
+			if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+				setContentLengthLong(Long.parseLong(value));
+			}
+			else {
+				super.addHeader(name, value);
+			}
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			if (buffer == null) {
+				super.flushBuffer();
+			}
+		}
+
+		@Override
+		public void resetBuffer() {
+			if (buffer != null) {
+				buffer.reset();
+			}
+			super.resetBuffer();
+			if (gzipStream != null) {
+				gzipStream.discard();
+			}
+		}
+
+		@Override
+		public void reset() {
+			if (buffer != null) {
+				buffer.reset();
+			}
+			super.reset();
+			if (gzipStream != null) {
+				// The headers are cleared with the content, the body is decided again
+				gzipStream.discard();
+				gzipStream = null;
+				outputStream = null;
+				writer = null;
+				decided = false;
+			}
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			passThrough();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			passThrough();
+			super.sendError(sc);
+		}
+
+		/**
+		 * Writes the end of the compressed stream, if the body was compressed as it was
+		 * written.
+		 */
+		void finishCompression() throws IOException {
+			if (gzipStream == null) {
+				return;
+			}
+			if (writer != null) {
+				writer.flush();
+			}
+			gzipStream.finish();
+		}
+
+		/**
+		 * Returns the buffered body, or null when the response was written through.
+		 */
+		byte[] getBufferedBody() {
+			if (!decided) {
+				passThrough();
+			}
+			if (buffer == null) {
+				return null;
+			}
+			if (writer != null) {
+				writer.flush();
+			}
+			return buffer.toByteArrayUnsafe();
+		}
+
+		private void decide() {
+			if (decided) {
+				return;
+			}
+			decided = true;
+			if (!request.isAsyncStarted() && getHeader(HttpHeaders.CONTENT_ENCODING) == null
+					&& isCompressible(getContentType())) {
+				if (request.getAttribute(STREAMED_ATTRIBUTE) == null) {
+					buffer = new FastByteArrayOutputStream();
+					return;
+				}
+				addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+				if (acceptsGzip(request)) {
+					gzipStream = new GzipOutputStream((HttpServletResponse) getResponse());
+					return;
+				}
+			}
+			if (contentLength >= 0) {
+				super.setContentLengthLong(contentLength);
+			}
+		}
+
+		private void passThrough() {
+			buffer = null;
+			if (gzipStream != null && !gzipStream.isStarted()) {
+				gzipStream = null;
+			}
+			if (!decided) {
+				decided = true;
+				if (contentLength >= 0) {
+					super.setContentLengthLong(contentLength);
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Output stream writing to the body buffer.
+	 */
+	private static class BufferOutputStream extends ServletOutputStream {
+
+		private final FastByteArrayOutputStream buffer;
+
+		BufferOutputStream(FastByteArrayOutputStream buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			buffer.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			buffer.write(b, off, len);
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		/**
+		 * Rejects the write listener, as a container would outside of async mode: a body
+		 * is only buffered when the request was not async started, and the bytes are then
+		 * written to the response by the filter on the request thread.
+		 *
+		 * @param writeListener The write listener.
+		 */
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			throw new IllegalStateException("Non-blocking writes are not supported on a buffered response");
+		}
+
+	}
+
+	/**
+	 * Output stream compressing the body to the response as it is written.
+	 *
+	 * <p>
+	 * The gzip encoding is only declared on the first write, so that an error sent before
+	 * any content is not declared compressed.
+	 * </p>
+	 */
+	private static class GzipOutputStream extends ServletOutputStream {
+
+		private final HttpServletResponse response;
+
+		private GZIPOutputStream deflater;
+
+		GzipOutputStream(HttpServletResponse response) {
+			this.response = response;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			deflater().write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			deflater().write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (deflater != null) {
+				deflater.flush();
+			}
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		/**
+		 * Rejects the write listener, as a container would outside of async mode: a body
+		 * is only compressed when the request was not async started, and is then written
+		 * by the handler on the request thread.
+		 *
+		 * @param writeListener The write listener.
+		 */
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			throw new IllegalStateException("Non-blocking writes are not supported on a compressed response");
+		}
+
+		boolean isStarted() {
+			return deflater != null;
+		}
+
+		/**
+		 * Writes the gzip trailer and releases the deflater, without closing the response.
+		 */
+		void finish() throws IOException {
+			if (deflater != null) {
+				deflater.close();
+			}
+		}
+
+		/**
+		 * Drops the compressed bytes written so far, after the response buffer was reset.
+		 */
+		void discard() {
+			deflater = null;
+		}
+
+		private GZIPOutputStream deflater() throws IOException {
+			if (deflater == null) {
+				response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+				deflater = new GZIPOutputStream(StreamUtils.nonClosing(response.getOutputStream()), GZIP_BUFFER_SIZE);
+			}
+			return deflater;
+		}
+
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.jeremw.bookstore.api.exception;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits the logging of repeated errors to one line per error code and interval.
+ *
+ * <p>
+ * The occurrences of an error code within the interval of its last logged occurrence are
+ * only counted, and the count is reported by the next logged line. The limiter is shared
+ * by the exception handlers and the security entry points, so an error code is limited
+ * wherever it is logged.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Component
+public class ErrorLogLimiter {
+
+	/**
+	 * Returned by {@link #acquire} when the occurrence must not be logged.
+	 */
+	public static final long SUPPRESSED = -1;
+
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+	private final Duration interval;
+
+	/**
+	 * Creates the limiter.
+	 *
+	 * @param interval The minimum delay between two logged occurrences of an error.
+	 */
+	public ErrorLogLimiter(@Value("${error-log.interval:PT10S}") Duration interval) {
+		this.interval = interval;
+	}
+
+	/**
+	 * Records an occurrence of an error.
+	 *
+	 * @param errorCode The code of the error.
+	 * @return The number of occurrences not logged since the last logged one, or
+	 * {@link #SUPPRESSED} when this occurrence must not be logged either.
+	 */
+	public long acquire(String errorCode) {
+		return acquire(errorCode, interval);
+	}
+
+	/**
+	 * Records an occurrence of an error, limited to the given interval.
+	 *
+	 * @param errorCode The code of the error.
+	 * @param interval  The minimum delay between two logged occurrences of the error.
+	 * @return The number of occurrences not logged since the last logged one, or
+	 * {@link #SUPPRESSED} when this occurrence must not be logged either.
+	 */
+	long acquire(String errorCode, Duration interval) {
+		return windows.computeIfAbsent(errorCode, code -> new Window()).acquire(System.nanoTime(), interval.toNanos());
+	}
+
+	private static final class Window {
+
+		private boolean logged;
+
+		private long lastLoggedNanos;
+
+		private long suppressed;
+
+		synchronized long acquire(long nowNanos, long intervalNanos) {
+			if (logged && nowNanos - lastLoggedNanos < intervalNanos) {
+				suppressed++;
+				return SUPPRESSED;
+			}
+			long count = suppressed;
+			logged = true;
+			lastLoggedNanos = nowNanos;
+			suppressed = 0;
+			return count;
+		}
+
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.jeremw.bookstore.api.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.http.HttpHeaders;
@@ -19,14 +20,23 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
  * This class handles global exceptions in the application, such as unexpected errors,
  * exceptions related to specific resources, access denied errors, and method argument validation errors.
  *
+ * <p>
+ * Only the server errors are logged with their stack trace. Each error code is logged at
+ * most once per {@code error-log.interval}, with the number of occurrences left out since
+ * the previous line, so a flood of identical errors does not flood the logs.
+ * </p>
+ *
  * @author Jérémy Woirhaye
  * @version 1.0
  * @since 11/05/2024
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalHandler extends ResponseEntityExceptionHandler {
 
+	private final ErrorLogLimiter errorLogLimiter;
+
 	/**
 	 * Handles unknown errors that occur within the application.
 	 *
@@ -37,7 +47,11 @@ public class GlobalHandler extends ResponseEntityExceptionHandler {
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ResourceExceptionDTO> unknownError(HttpServletRequest req, Exception exception) {
 
-		log.info("An unknown error occurred. Request URL: {}", req.getRequestURL().toString(), exception);
+		long suppressed = errorLogLimiter.acquire(exception.getClass().getName());
+		if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+			log.error("An unknown error occurred. Request URL: {}, similar errors not logged: {}",
+					req.getRequestURL().toString(), suppressed, exception);
+		}
 
 		ResourceExceptionDTO res = ResourceExceptionDTO.builder()
 				.errorCode(HttpStatus.INTERNAL_SERVER_ERROR.toString().substring(4))
@@ -59,7 +73,17 @@ public class GlobalHandler extends ResponseEntityExceptionHandler {
 	@ExceptionHandler(ResourceException.class)
 	public ResponseEntity<ResourceExceptionDTO> resourceError(HttpServletRequest req, ResourceException exception) {
 
-		log.info("An resource exception error occurred. Request URL: {}", req.getRequestURL().toString(), exception);
+		long suppressed = errorLogLimiter.acquire(String.valueOf(exception.getErrorCode()));
+		if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+			if (ResourceException.isServerError(exception.getStatus())) {
+				log.error("An resource exception error occurred. Request URL: {}, similar errors not logged: {}",
+						req.getRequestURL().toString(), suppressed, exception);
+			}
+			else {
+				log.info("Resource error {}: {} Request URL: {}, similar errors not logged: {}",
+						exception.getErrorCode(), exception.getMessage(), req.getRequestURL().toString(), suppressed);
+			}
+		}
 
 		ResourceExceptionDTO res = ResourceExceptionDTO.builder()
 				.errorCode(exception.getErrorCode() != null ? exception.getErrorCode() : "Undefined")
@@ -82,7 +106,11 @@ public class GlobalHandler extends ResponseEntityExceptionHandler {
 	public ResponseEntity<ResourceExceptionDTO> errorAccessDenied(HttpServletRequest req,
 			AccessDeniedException exception) {
 
-		log.error("Access denied error occurred. Request URL: {}", req.getRequestURL().toString(), exception);
+		long suppressed = errorLogLimiter.acquire("Forbidden");
+		if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+			log.info("Access denied error occurred. Request URL: {}, similar errors not logged: {}",
+					req.getRequestURL().toString(), suppressed);
+		}
 
 		ResourceExceptionDTO exceptionDTO = ResourceExceptionDTO.builder()
 				.errorCode("Forbidden")
@@ -107,8 +135,11 @@ public class GlobalHandler extends ResponseEntityExceptionHandler {
 	protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException exception,
 			HttpHeaders headers, HttpStatusCode status, WebRequest request) {
 
-		log.error("Method argument not valid. Request URL: {}", ((ServletWebRequest) request).getRequest()
-				.getRequestURL().toString(), exception);
+		long suppressed = errorLogLimiter.acquire("FormValidationError");
+		if (suppressed != ErrorLogLimiter.SUPPRESSED) {
+			log.info("Method argument not valid. Request URL: {}, similar errors not logged: {}",
+					((ServletWebRequest) request).getRequest().getRequestURL().toString(), suppressed);
+		}
 
 		StringBuilder eMsg = new StringBuilder();
 		exception.getBindingResult().getAllErrors().forEach(e -> eMsg.append(e.getDefaultMessage()).append(", "));
@@ -14,6 +14,12 @@ import org.springframework.http.HttpStatus;
  * detailed information about the exception.
  * </p>
  *
+ * <p>
+ * The exceptions of the client errors, such as a resource not found, are expected control
+ * flow: they are created without a stack trace, which is only captured for the server
+ * errors.
+ * </p>
+ *
  * @author Jérémy Woirhaye
  * @version 1.0
  * @since 11/05/2024
@@ -41,10 +47,33 @@ public class ResourceException extends Exception {
 	 * @param status       The HTTP status associated with the exception.
 	 */
 	public ResourceException(String errorCode, String errorMessage, HttpStatus status) {
-		super(errorMessage);
+		this(errorCode, errorMessage, status, null);
+	}
+
+	/**
+	 * Constructs a new ResourceException with the specified error code, error message,
+	 * HTTP status and cause.
+	 *
+	 * @param errorCode    The unique identifier for the type of error.
+	 * @param errorMessage The human-readable error message.
+	 * @param status       The HTTP status associated with the exception.
+	 * @param cause        The exception which caused this error, may be null.
+	 */
+	public ResourceException(String errorCode, String errorMessage, HttpStatus status, Throwable cause) {
+		super(errorMessage, cause, true, isServerError(status));
 		this.errorCode = errorCode;
 		this.status = status;
 	}
 
+	/**
+	 * Tells whether the status is a server error, or unknown.
+	 *
+	 * @param status The HTTP status, may be null.
+	 * @return True when the error is not an expected client error.
+	 */
+	public static boolean isServerError(HttpStatus status) {
+		return status == null || status.is5xxServerError();
+	}
+
 }
 
@@ -13,6 +13,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLDelete;
+import org.hibernate.annotations.SQLRestriction;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -28,6 +32,11 @@ import org.springframework.security.core.userdetails.UserDetails;
  * authorization status.
  * </p>
  *
+ * <p>
+ * A deleted user is only flagged, and filtered out of every query; the user and the
+ * library are removed later by the purger.
+ * </p>
+ *
  * @author Jérémy Woirhaye
  * @version 1.0
  * @see UserDetails
@@ -39,13 +48,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 @AllArgsConstructor
 @Builder
 @Table(name = "user_app")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@SQLDelete(sql = "update user_app set deleted = true where id = ?")
+@SQLRestriction("deleted = false")
 public class User implements UserDetails {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.AUTO)
 	private Long id;
 
-	@Column(unique = true, updatable = false, nullable = false)
+	@Column(unique = true, updatable = false, nullable = false, length = 50)
 	private String username;
 
 	@Column(nullable = false)
@@ -54,6 +66,9 @@ public class User implements UserDetails {
 	@Column(nullable = false)
 	private String password;
 
+	@Column(nullable = false)
+	private boolean deleted;
+
 	/**
 	 * Returns the authorities granted to the user. Currently set to an empty list.
 	 *
@@ -0,0 +1,51 @@
+package com.jeremw.bookstore.api.user;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Entity class holding the number of books of a user.
+ *
+ * <p>
+ * The count is kept apart from the user, so the atomic updates made on each create and
+ * delete of a book do not evict the cached users. A row is only ever inserted through the
+ * repository, the count being changed by bulk updates.
+ * </p>
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_book_count")
+public class UserBookCount implements Persistable<Long> {
+
+	@Id
+	private Long userId;
+
+	@Column(nullable = false)
+	private long bookCount;
+
+	@Override
+	public Long getId() {
+		return userId;
+	}
+
+	@Override
+	public boolean isNew() {
+		return true;
+	}
+
+}
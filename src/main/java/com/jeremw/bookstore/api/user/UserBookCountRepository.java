@@ -0,0 +1,30 @@
+package com.jeremw.bookstore.api.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of the {@link UserBookCount} entities.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@Repository
+public interface UserBookCountRepository extends JpaRepository<UserBookCount, Long> {
+
+	/**
+	 * Atomically adds a delta to the number of books of a user.
+	 *
+	 * @param userId The ID of the user.
+	 * @param delta  The number of books added, negative for removed books.
+	 * @return The number of updated rows, 0 when the user has no count yet.
+	 */
+	@Modifying
+	@Query("update UserBookCount c set c.bookCount = c.bookCount + :delta where c.userId = :userId")
+	int addToBookCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+}
@@ -7,6 +7,8 @@ import com.jeremw.bookstore.api.user.dto.CreateUserForm;
 import com.jeremw.bookstore.api.user.dto.UpdateUserForm;
 import com.jeremw.bookstore.api.user.dto.UserDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -66,8 +68,12 @@ public interface UserController {
 	 * user.
 	 */
 	@Operation(summary = "Create a new user")
+	@Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER,
+			description = "Key of the request, a retry with the same key and body gets the first response again.")
 	@ApiResponse(responseCode = "201", description = "User successfully created.")
-	@ApiResponse(responseCode = "409", description = "The user in parameter already exists.",
+	@ApiResponse(responseCode = "409", description = "The user in parameter already exists, or a request with the same idempotency key is still in progress.",
+			content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
+	@ApiResponse(responseCode = "422", description = "The idempotency key was used with another request.",
 			content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
 	@ApiResponse(responseCode = "500", description = "Error while creating the user in parameter.",
 			content = @Content(schema = @Schema(implementation = ResourceExceptionDTO.class)))
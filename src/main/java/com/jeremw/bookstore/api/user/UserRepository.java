@@ -2,7 +2,12 @@ package com.jeremw.bookstore.api.user;
 
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -22,11 +27,24 @@ import org.springframework.stereotype.Repository;
 public interface UserRepository extends JpaRepository<User, Long> {
 
 	/**
-	 * Finds a user by their username.
+	 * Finds a user by their username. The result is kept in the query cache, as this lookup
+	 * runs on every authenticated request.
 	 *
 	 * @param username The username of the user to find.
 	 * @return An Optional containing the user if found, otherwise an empty Optional.
 	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-by-username") })
 	Optional<User> findByUsername(String username);
 
+	/**
+	 * Checks whether a user with the given username exists. The deleted users are counted
+	 * until they are purged, as they still hold their username.
+	 *
+	 * @param username The username to look for.
+	 * @return true if a user, deleted or not, has this username, false otherwise.
+	 */
+	@Query(value = "select count(*) > 0 from user_app where username = ?1", nativeQuery = true)
+	boolean existsByUsername(String username);
+
 }
@@ -27,5 +27,18 @@ public class UserResourceException extends ResourceException {
 		super(errorCode, errorMessage, status);
 	}
 
+	/**
+	 * Constructs a new UserResourceException with the specified error code, error
+	 * message, HTTP status and cause.
+	 *
+	 * @param errorCode    The error code associated with the exception.
+	 * @param errorMessage The error message providing details about the exception.
+	 * @param status       The HTTP status code associated with the exception.
+	 * @param cause        The exception which caused this error.
+	 */
+	public UserResourceException(String errorCode, String errorMessage, HttpStatus status, Throwable cause) {
+		super(errorCode, errorMessage, status, cause);
+	}
+
 }
 
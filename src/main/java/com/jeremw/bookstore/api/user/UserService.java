@@ -52,6 +52,23 @@ public interface UserService {
 	 */
 	User updateUserById(Long userId, UpdateUserForm updateUserForm) throws UserResourceException;
 
+	/**
+	 * Retrieves the number of books of a user, without reading the books.
+	 *
+	 * @param userId The unique identifier of the user.
+	 * @return The number of books of the user.
+	 * @throws UserResourceException if the user with the given ID is not found.
+	 */
+	long getBookCount(Long userId) throws UserResourceException;
+
+	/**
+	 * Adds a delta to the number of books of a user.
+	 *
+	 * @param userId The unique identifier of the user.
+	 * @param delta  The number of books added, negative for removed books.
+	 */
+	void addToBookCount(Long userId, long delta);
+
 	/**
 	 * Deletes a user by their unique identifier.
 	 *
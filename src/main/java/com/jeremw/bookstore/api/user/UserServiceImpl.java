@@ -2,6 +2,8 @@ package com.jeremw.bookstore.api.user;
 
 import java.util.List;
 
+import com.jeremw.bookstore.api.config.coalescing.Coalesced;
+import com.jeremw.bookstore.api.exception.ResourceException;
 import com.jeremw.bookstore.api.user.dto.CreateUserForm;
 import com.jeremw.bookstore.api.user.dto.UpdateUserForm;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * @author Jérémy Woirhaye
@@ -20,10 +23,13 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
 	private final UserRepository userRepository;
 
+	private final UserBookCountRepository userBookCountRepository;
+
 	private final PasswordEncoder passwordEncoder;
 
 	@Override
@@ -32,6 +38,8 @@ public class UserServiceImpl implements UserService {
 		return userRepository.findAll();
 	}
 
+	// Not coalesced: the user becomes the principal of the request, and a coalesced result
+	// would share one mutable entity across the concurrent requests. The query cache serves it.
 	@Override
 	public User findUserByUsername(String username) throws UserResourceException {
 		log.info("Getting user by username: {}", username);
@@ -41,6 +49,7 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
+	@Coalesced
 	public User getUserById(Long userId) throws UserResourceException {
 		log.info("Getting user by ID: {}", userId);
 		return userRepository.findById(userId)
@@ -50,6 +59,7 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
+	@Transactional(rollbackFor = ResourceException.class)
 	public User createUser(CreateUserForm createUserForm) throws UserResourceException {
 
 		log.info("Creating a new user with username: {}", createUserForm.getUsername());
@@ -61,21 +71,26 @@ public class UserServiceImpl implements UserService {
 				.build();
 
 		try {
-			return userRepository.save(userToCreate);
+			// Flushed here so that a duplicate username is reported as a conflict, a deleted
+			// user holding the username until purged
+			User createdUser = userRepository.saveAndFlush(userToCreate);
+			userBookCountRepository.save(UserBookCount.builder().userId(createdUser.getId()).bookCount(0).build());
+			return createdUser;
 		}
 		catch (DataIntegrityViolationException e) {
 			throw new UserResourceException("UserAlreadyExists",
-					"The user " + createUserForm.getUsername() + " already exists.", HttpStatus.CONFLICT);
+					"The username " + createUserForm.getUsername() + " is already taken.", HttpStatus.CONFLICT);
 		}
 		catch (Exception e) {
 			throw new UserResourceException("CreateUserError",
 					"Error while creating the user " + createUserForm.getUsername() + ".",
-					HttpStatus.INTERNAL_SERVER_ERROR);
+					HttpStatus.INTERNAL_SERVER_ERROR, e);
 		}
 
 	}
 
 	@Override
+	@Transactional(rollbackFor = ResourceException.class)
 	public User updateUserById(final Long userId, final UpdateUserForm updateUserForm) throws UserResourceException {
 		log.info("Updating user with ID: {}", userId);
 
@@ -97,11 +112,30 @@ public class UserServiceImpl implements UserService {
 		catch (Exception e) {
 			throw new UserResourceException("UpdateUserError",
 					"Error while updating the user with the ID : " + userId.toString(),
-					HttpStatus.INTERNAL_SERVER_ERROR);
+					HttpStatus.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+
+	@Override
+	@Coalesced
+	public long getBookCount(Long userId) throws UserResourceException {
+		log.info("Getting the book count of user ID: {}", userId);
+		return userBookCountRepository.findById(userId)
+				.map(UserBookCount::getBookCount)
+				.orElseThrow(() -> new UserResourceException("UserNotFound", "The user ID is not found in the database.",
+						HttpStatus.NOT_FOUND));
+	}
+
+	@Override
+	@Transactional
+	public void addToBookCount(Long userId, long delta) {
+		if (userBookCountRepository.addToBookCount(userId, delta) == 0) {
+			userBookCountRepository.save(UserBookCount.builder().userId(userId).bookCount(Math.max(delta, 0)).build());
 		}
 	}
 
 	@Override
+	@Transactional(rollbackFor = ResourceException.class)
 	public void deleteUserById(Long userId) throws UserResourceException {
 		log.info("Deleting user with ID: {}", userId);
 		try {
@@ -110,7 +144,7 @@ public class UserServiceImpl implements UserService {
 		catch (Exception e) {
 			throw new UserResourceException("DeleteUserError",
 					"Error while deleting the user with the ID : " + userId.toString(),
-					HttpStatus.INTERNAL_SERVER_ERROR);
+					HttpStatus.INTERNAL_SERVER_ERROR, e);
 		}
 	}
 
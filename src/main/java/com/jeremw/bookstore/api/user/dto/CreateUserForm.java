@@ -3,6 +3,7 @@ package com.jeremw.bookstore.api.user.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
 
@@ -18,11 +19,13 @@ import lombok.Data;
 public class CreateUserForm {
 
 	@NotBlank(message = "The username is required to create a new user")
+	@Size(max = 50, message = "The username must not exceed 50 characters")
 	@Schema(description = "The username of the new user")
 	private String username;
 
 	@NotBlank(message = "The email is required to create a new user")
 	@Email(regexp = "[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,3}", message = "Invalid email format")
+	@Size(max = 255, message = "The email must not exceed 255 characters")
 	@Schema(description = "The password of the new user")
 	private String email;
 
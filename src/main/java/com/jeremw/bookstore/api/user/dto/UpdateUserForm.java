@@ -2,6 +2,7 @@ package com.jeremw.bookstore.api.user.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class UpdateUserForm {
 
 	@Email(regexp = "[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,3}", message = "The email is not valid")
+	@Size(max = 255, message = "The email must not exceed 255 characters")
 	@Schema(description = "The updated email of the user")
 	private String email;
 
@@ -0,0 +1,42 @@
+-- Initial schema of the books API.
+
+create sequence user_app_seq start with 1 increment by 50;
+
+create sequence refresh_token_seq start with 1 increment by 50;
+
+create table user_app (
+	id bigint not null,
+	username varchar(50) not null,
+	email varchar(255) not null,
+	password varchar(255) not null,
+	constraint pk_user_app primary key (id),
+	constraint uk_user_app_username unique (username)
+);
+
+create table book (
+	id bigint generated by default as identity,
+	user_id bigint,
+	title varchar(255) not null,
+	description varchar(2000) not null,
+	author varchar(255) not null,
+	constraint pk_book primary key (id)
+);
+
+alter table book add constraint fk_book_user foreign key (user_id) references user_app (id);
+
+-- Serves the books of a user ordered by id and the lookup of one book of a user.
+create index idx_book_user_id_id on book (user_id, id);
+
+create table refresh_token (
+	id bigint not null,
+	user_id bigint,
+	token varchar(64) not null,
+	expiry_date timestamp(6) with time zone not null,
+	revoked boolean not null,
+	constraint pk_refresh_token primary key (id),
+	constraint uk_refresh_token_token unique (token),
+	constraint fk_refresh_token_user foreign key (user_id) references user_app (id)
+);
+
+-- Serves the cleanup of the expired tokens.
+create index idx_refresh_token_expiry_date on refresh_token (expiry_date);
@@ -0,0 +1,9 @@
+-- Heartbeat written on the primary and read back on the replicas to measure their lag.
+
+create table replication_heartbeat (
+	id int not null,
+	beat_at timestamp(6) with time zone not null,
+	constraint pk_replication_heartbeat primary key (id)
+);
+
+insert into replication_heartbeat (id, beat_at) values (1, current_timestamp);
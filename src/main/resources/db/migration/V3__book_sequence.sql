@@ -0,0 +1,6 @@
+-- Sequence of the book ids, reserved by blocks of 50 by the application which adds the
+-- shard of the book in the low bits of the id (see ShardAwareIdGenerator).
+
+create sequence book_seq start with 1 increment by 50;
+
+alter table book alter column id drop identity;
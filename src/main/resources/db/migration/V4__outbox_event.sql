@@ -0,0 +1,12 @@
+-- Outbox of the changes, written in the transaction of each change and relayed to the
+-- sinks by OutboxRelay, which deletes the relayed rows.
+
+create table outbox_event (
+	id bigint generated by default as identity,
+	aggregate_type varchar(50) not null,
+	aggregate_id bigint not null,
+	user_id bigint,
+	event_type varchar(20) not null,
+	created_at timestamp(6) with time zone not null,
+	constraint pk_outbox_event primary key (id)
+);
@@ -0,0 +1,17 @@
+-- Change sequence of the books and tombstones of the deleted books, read by the delta
+-- sync of a user's library (see BookChangeSequence).
+
+alter table book add column change_seq bigint default 0 not null;
+
+-- Serves the books of a user changed since a sync token.
+create index idx_book_user_id_change_seq on book (user_id, change_seq);
+
+create table book_tombstone (
+	book_id bigint not null,
+	user_id bigint not null,
+	change_seq bigint not null,
+	constraint pk_book_tombstone primary key (book_id)
+);
+
+-- Serves the books of a user deleted since a sync token.
+create index idx_book_tombstone_user_id_change_seq on book_tombstone (user_id, change_seq);
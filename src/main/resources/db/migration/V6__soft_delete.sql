@@ -0,0 +1,10 @@
+-- Soft delete flags of the books and users, hard-deleted in batches by SoftDeletePurger.
+
+alter table book add column deleted boolean default false not null;
+
+alter table user_app add column deleted boolean default false not null;
+
+-- Serves the purge of the deleted books and the purge backlog, few books being deleted.
+create index idx_book_deleted on book (deleted);
+
+create index idx_user_app_deleted on user_app (deleted);
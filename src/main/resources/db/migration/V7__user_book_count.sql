@@ -0,0 +1,12 @@
+-- Number of books of each user, maintained on each create and delete of a book and
+-- reconciled periodically by BookCountReconciler.
+
+create table user_book_count (
+	user_id bigint not null,
+	book_count bigint not null,
+	constraint pk_user_book_count primary key (user_id),
+	constraint fk_user_book_count_user foreign key (user_id) references user_app (id)
+);
+
+insert into user_book_count (user_id, book_count)
+select u.id, (select count(*) from book b where b.user_id = u.id and b.deleted = false) from user_app u;
@@ -0,0 +1,16 @@
+-- Idempotency keys of the creations and their recorded responses, kept by
+-- JdbcIdempotencyStore when idempotency.store is jdbc. A key without a response status
+-- is still in flight.
+
+create table idempotency_key (
+	idempotency_key varchar(64) not null,
+	fingerprint varchar(64) not null,
+	response_status integer,
+	content_type varchar(255),
+	location varchar(2048),
+	body blob,
+	created_at timestamp(6) with time zone not null,
+	constraint pk_idempotency_key primary key (idempotency_key)
+);
+
+create index idx_idempotency_key_created_at on idempotency_key (created_at);
@@ -0,0 +1,4 @@
+-- Owner of the claim of each idempotency key, so that only the request holding the key
+-- completes or releases it, even after the key was taken over (see JdbcIdempotencyStore).
+
+alter table idempotency_key add column owner varchar(36);
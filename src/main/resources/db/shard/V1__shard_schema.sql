@@ -0,0 +1,49 @@
+-- Schema of a shard database. A shard only holds the books of the users placed on it,
+-- their tombstones and the outbox of their changes; the users, their refresh tokens and
+-- their book counts live in the directory database, migrated from db/migration.
+
+-- Sequence of the book ids, reserved by blocks of 50 by the application which adds the
+-- shard of the book in the low bits of the id (see ShardAwareIdGenerator).
+create sequence book_seq start with 1 increment by 50;
+
+-- The users are not on the shard, so the book has no foreign key to its user.
+create table book (
+	id bigint not null,
+	user_id bigint,
+	title varchar(255) not null,
+	description varchar(2000) not null,
+	author varchar(255) not null,
+	change_seq bigint default 0 not null,
+	deleted boolean default false not null,
+	constraint pk_book primary key (id)
+);
+
+-- Serves the books of a user ordered by id and the lookup of one book of a user.
+create index idx_book_user_id_id on book (user_id, id);
+
+-- Serves the books of a user changed since a sync token.
+create index idx_book_user_id_change_seq on book (user_id, change_seq);
+
+-- Serves the purge of the deleted books and the purge backlog, few books being deleted.
+create index idx_book_deleted on book (deleted);
+
+create table book_tombstone (
+	book_id bigint not null,
+	user_id bigint not null,
+	change_seq bigint not null,
+	constraint pk_book_tombstone primary key (book_id)
+);
+
+-- Serves the books of a user deleted since a sync token.
+create index idx_book_tombstone_user_id_change_seq on book_tombstone (user_id, change_seq);
+
+-- Outbox of the book changes, written in the transaction of each change on the shard.
+create table outbox_event (
+	id bigint generated by default as identity,
+	aggregate_type varchar(50) not null,
+	aggregate_id bigint not null,
+	user_id bigint,
+	event_type varchar(20) not null,
+	created_at timestamp(6) with time zone not null,
+	constraint pk_outbox_event primary key (id)
+);
@@ -0,0 +1,123 @@
+package com.jeremw.bookstore.api.book;
+
+import java.time.Instant;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.jeremw.bookstore.api.config.outbox.OutboxEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a stalled client does not hold up the fan-out of the book changes.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class BookChangeFanOutTests {
+
+	private static final int SEND_QUEUE_SIZE = 2;
+
+	private BookChangeFeed bookChangeFeed;
+
+	private CountDownLatch release;
+
+	@BeforeEach
+	void setUp() {
+		bookChangeFeed = new BookChangeFeed(100, SEND_QUEUE_SIZE, 2);
+		release = new CountDownLatch(1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		bookChangeFeed.close();
+	}
+
+	@Test
+	void onOutboxEvent_WithStalledSubscriber_ShouldStillReachOtherSubscribers() throws Exception {
+		StalledEmitter stalled = new StalledEmitter(release);
+		RecordingEmitter recording = new RecordingEmitter();
+		bookChangeFeed.subscribe(42L, null, stalled);
+		bookChangeFeed.subscribe(42L, null, recording);
+		awaitSubscribers(2);
+
+		bookChangeFeed.onOutboxEvent(bookEvent(42L, 1L));
+		assertTrue(stalled.sending.await(5, TimeUnit.SECONDS));
+		assertNotNull(recording.events.poll(5, TimeUnit.SECONDS));
+		for (long bookId = 2; bookId <= SEND_QUEUE_SIZE + 3; bookId++) {
+			bookChangeFeed.onOutboxEvent(bookEvent(42L, bookId));
+			assertNotNull(recording.events.poll(5, TimeUnit.SECONDS));
+		}
+
+		assertEquals(1, bookChangeFeed.getSubscriberCount());
+	}
+
+	private void awaitSubscribers(int count) throws InterruptedException {
+		for (int i = 0; i < 250 && bookChangeFeed.getSubscriberCount() < count; i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(count, bookChangeFeed.getSubscriberCount());
+	}
+
+	private OutboxEvent bookEvent(Long userId, Long bookId) {
+		return OutboxEvent.builder()
+				.aggregateType("Book")
+				.aggregateId(bookId)
+				.userId(userId)
+				.type(OutboxEvent.Type.UPDATED)
+				.createdAt(Instant.now())
+				.build();
+	}
+
+	/**
+	 * Emitter of a client which stopped reading, its first send blocks until released.
+	 */
+	private static class StalledEmitter extends SseEmitter {
+
+		private final CountDownLatch sending = new CountDownLatch(1);
+
+		private final CountDownLatch release;
+
+		StalledEmitter(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			sending.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+	}
+
+	/**
+	 * Emitter of a client reading its events.
+	 */
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final BlockingQueue<SseEventBuilder> events = new LinkedBlockingQueue<>();
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			events.add(builder);
+		}
+
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.jeremw.bookstore.api.book;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import com.jeremw.bookstore.api.config.outbox.OutboxEvent;
+import com.jeremw.bookstore.api.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the Server-Sent Events stream of the book changes.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@SpringBootTest
+class BookChangeFeedTests {
+
+	@Autowired
+	private WebApplicationContext webApplicationContext;
+
+	@Autowired
+	private BookChangeFeed bookChangeFeed;
+
+	private MockMvc mvc;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		mvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+				.apply(SecurityMockMvcConfigurers.springSecurity())
+				.build();
+
+		user = User.builder().id(42L).username("feed").email("feed@book-api.fr").password("password").build();
+	}
+
+	@Test
+	void getBookChanges_ShouldPushChangesOfTheUserOnly() throws Exception {
+		MvcResult result = mvc.perform(get("/users/42/books/changes").with(user(user)))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		bookChangeFeed.onOutboxEvent(bookEvent(43L, 7L, OutboxEvent.Type.CREATED));
+		bookChangeFeed.onOutboxEvent(bookEvent(42L, 8L, OutboxEvent.Type.UPDATED));
+
+		String content = awaitContent(result.getResponse(), "event:updated");
+		assertTrue(content.contains("\"bookId\":8"));
+		assertFalse(content.contains("event:created"));
+	}
+
+	@Test
+	void getBookChanges_WithEventIdOfPreviousRun_ShouldSendReset() throws Exception {
+		MvcResult result = mvc.perform(get("/users/42/books/changes").with(user(user))
+						.header("Last-Event-ID", "0-5"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		awaitContent(result.getResponse(), "event:" + BookChangeFeed.RESET_EVENT);
+	}
+
+	@Test
+	void getBookChanges_OtherUser_ShouldBeForbidden() throws Exception {
+		mvc.perform(get("/users/43/books/changes").with(user(user)))
+				.andExpect(status().isForbidden());
+	}
+
+	private OutboxEvent bookEvent(Long userId, Long bookId, OutboxEvent.Type type) {
+		return OutboxEvent.builder()
+				.aggregateType("Book")
+				.aggregateId(bookId)
+				.userId(userId)
+				.type(type)
+				.createdAt(Instant.now())
+				.build();
+	}
+
+	private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+		String content = response.getContentAsString(StandardCharsets.UTF_8);
+		for (int i = 0; i < 100 && !content.contains(expected); i++) {
+			Thread.sleep(20);
+			content = response.getContentAsString(StandardCharsets.UTF_8);
+		}
+		assertTrue(content.contains(expected), content);
+		return content;
+	}
+
+}
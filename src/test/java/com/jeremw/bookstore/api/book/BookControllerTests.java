@@ -2,9 +2,12 @@ package com.jeremw.bookstore.api.book;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jeremw.bookstore.api.book.dto.BookDto;
 import com.jeremw.bookstore.api.book.dto.CreateBookForm;
@@ -20,6 +23,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,13 +33,19 @@ import org.springframework.web.context.WebApplicationContext;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -80,11 +90,9 @@ class BookControllerTests {
 
 		Book book2 = Book.builder().id(1L).title("book2").description("description2").author("author2").build();
 
-		List<Book> books = Arrays.asList(book1, book2);
+		List<BookDto> expectedBooksDto = BookMapper.INSTANCE.toDtoList(Arrays.asList(book1, book2));
 
-		List<BookDto> expectedBooksDto = BookMapper.INSTANCE.toDtoList(books);
-
-		when(bookService.getBooksByUserId(user.getId())).thenReturn(books);
+		streamBooks(EnumSet.allOf(BookField.class), expectedBooksDto);
 
 		MvcResult res = mvc.perform(get(BASE_PATH).with(user(user)))
 				.andExpect(status().isOk())
@@ -95,12 +103,88 @@ class BookControllerTests {
 				res.getResponse().getContentAsString(StandardCharsets.UTF_8), new TypeReference<List<BookDto>>() {
 				});
 
-		verify(bookService, times(1)).getBooksByUserId(user.getId());
+		verify(bookService, times(1)).forEachBookByUserId(eq(user.getId()), eq(EnumSet.allOf(BookField.class)), any());
+		assertEquals("2", res.getResponse().getHeader(BookController.TOTAL_COUNT_HEADER));
 		assertNotNull(bookFromController);
 		assertEquals(2, bookFromController.size());
 		assertEquals(expectedBooksDto, bookFromController);
 	}
 
+	@Test
+	void getBooks_WithoutBooks_ShouldReturnEmptyList() throws Exception {
+		streamBooks(EnumSet.allOf(BookField.class), List.of());
+
+		MvcResult res = mvc.perform(get(BASE_PATH).with(user(user)))
+				.andExpect(status().isOk())
+				.andReturn();
+
+		assertEquals("[]", res.getResponse().getContentAsString());
+		assertEquals("0", res.getResponse().getHeader(BookController.TOTAL_COUNT_HEADER));
+	}
+
+	@Test
+	void getBooks_WithFields_ShouldReturnOnlyRequestedFields() throws Exception {
+		List<BookDto> bookDtos = List.of(BookDto.builder().id(1L).title("book1").author("author1").build());
+
+		streamBooks(EnumSet.of(BookField.TITLE, BookField.AUTHOR), bookDtos);
+
+		MvcResult res = mvc.perform(get(BASE_PATH).with(user(user)).param("fields", "title,author"))
+				.andExpect(status().isOk())
+				.andReturn();
+
+		assertEquals("[{\"id\":1,\"title\":\"book1\",\"author\":\"author1\"}]",
+				res.getResponse().getContentAsString());
+		assertEquals("1", res.getResponse().getHeader(BookController.TOTAL_COUNT_HEADER));
+	}
+
+	@Test
+	void getBooks_WithInvalidField_ShouldReturnBadRequest() throws Exception {
+		mvc.perform(get(BASE_PATH).with(user(user)).param("fields", "title,isbn"))
+				.andExpect(status().isBadRequest());
+
+		verify(bookService, never()).forEachBookByUserId(anyLong(), any(), any());
+	}
+
+	@Test
+	void getBookById_WithInvalidField_ShouldReturnBadRequest() throws Exception {
+		mvc.perform(get(BASE_PATH + "/1").with(user(user)).param("fields", "isbn"))
+				.andExpect(status().isBadRequest());
+
+		verify(bookService, never()).getBookByIdAndUserId(anyLong(), anyLong(), any());
+	}
+
+	@Test
+	void getBooksByIds_ShouldReturnBooksAndMissingIds() throws Exception {
+		Book book = Book.builder().id(2L).title("book2").description("description2").author("author2").build();
+
+		when(bookService.getBooksByIdsAndUserId(user.getId(), List.of(2L, 5L)))
+				.thenReturn(BookBatch.builder().books(List.of(book)).missingIds(List.of(5L)).build());
+
+		MvcResult res = mvc.perform(get(BASE_PATH).with(user(user)).param("ids", "2,5"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andReturn();
+
+		JsonNode bookBatch = objectMapper.readTree(res.getResponse().getContentAsString());
+		assertEquals(2L, bookBatch.get("books").get(0).get("id").asLong());
+		assertEquals(5L, bookBatch.get("missingIds").get(0).asLong());
+		verify(bookService, never()).forEachBookByUserId(anyLong(), any(), any());
+	}
+
+	@Test
+	void countBooks_ShouldReturnCountHeaderOnly() throws Exception {
+		when(bookService.countBooksByUserId(user.getId())).thenReturn(3L);
+
+		MvcResult res = mvc.perform(head(BASE_PATH).with(user(user)))
+				.andExpect(status().isOk())
+				.andReturn();
+
+		verify(bookService, times(1)).countBooksByUserId(user.getId());
+		verify(bookService, never()).forEachBookByUserId(anyLong(), any(), any());
+		assertEquals("3", res.getResponse().getHeader(BookController.TOTAL_COUNT_HEADER));
+		assertEquals(0, res.getResponse().getContentLength());
+	}
+
 	@Test
 	void getBookById_ExistingId_ShouldReturnBookDto() throws Exception {
 		Long bookId = 1L;
@@ -196,4 +280,15 @@ class BookControllerTests {
 		verify(bookService, Mockito.times(1)).deleteBookForUser(user.getId(), bookId);
 	}
 
+
+	private void streamBooks(Set<BookField> fields, List<BookDto> bookDtos) throws Exception {
+		doAnswer(invocation -> {
+			BookRowHandler handler = invocation.getArgument(2);
+			handler.begin(bookDtos.size());
+			for (BookDto bookDto : bookDtos) {
+				handler.handle(bookDto);
+			}
+			return null;
+		}).when(bookService).forEachBookByUserId(eq(user.getId()), eq(fields), any());
+	}
 }
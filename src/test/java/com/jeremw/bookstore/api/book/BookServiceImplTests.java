@@ -1,12 +1,16 @@
 package com.jeremw.bookstore.api.book;
 
 
-import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import com.jeremw.bookstore.api.book.dto.CreateBookForm;
 import com.jeremw.bookstore.api.book.dto.UpdateBookForm;
+import com.jeremw.bookstore.api.config.outbox.Outbox;
+import com.jeremw.bookstore.api.config.outbox.OutboxEvent;
 import com.jeremw.bookstore.api.user.User;
 import com.jeremw.bookstore.api.user.UserResourceException;
 import com.jeremw.bookstore.api.user.UserService;
@@ -16,12 +20,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,6 +51,12 @@ class BookServiceImplTests {
 	@Mock
 	private UserService userService;
 
+	@Mock
+	private Outbox outbox;
+
+	@Mock
+	private BookTombstoneRepository bookTombstoneRepository;
+
 	@InjectMocks
 	private BookServiceImpl bookService;
 
@@ -51,15 +68,72 @@ class BookServiceImplTests {
 	}
 
 	@Test
-	void testGetBookes() {
-		List<Book> books = new ArrayList<>();
-		when(bookRepository.findBooksByUserId(user.getId())).thenReturn(books);
+	void testForEachBook() throws Exception {
+		BookRowHandler handler = mock(BookRowHandler.class);
+		Set<BookField> fields = EnumSet.of(BookField.TITLE, BookField.AUTHOR);
 
-		List<Book> result = bookService.getBooksByUserId(user.getId());
+		bookService.forEachBookByUserId(user.getId(), fields, handler);
 
-		assertNotNull(result);
-		assertEquals(books, result);
-		verify(bookRepository, times(1)).findBooksByUserId(user.getId());
+		verify(bookRepository, times(1)).forEachBookByUserId(user.getId(), fields, handler);
+	}
+
+	@Test
+	void testParseFields() throws BookResourceException {
+		assertEquals(EnumSet.of(BookField.TITLE, BookField.AUTHOR), BookField.parse("title, AUTHOR"));
+		assertEquals(EnumSet.allOf(BookField.class), BookField.parse(null));
+	}
+
+	@Test
+	void testParseInvalidField() {
+		BookResourceException exception = assertThrows(BookResourceException.class,
+				() -> BookField.parse("title,isbn"));
+
+		assertEquals("InvalidFields", exception.getErrorCode());
+	}
+
+	@Test
+	void testGetBookByIdWithFieldsNotFound() {
+		Long bookId = 1L;
+
+		when(bookRepository.findByIdAndUserId(bookId, user.getId(), EnumSet.of(BookField.ID)))
+				.thenReturn(Optional.empty());
+
+		assertThrows(BookResourceException.class, () -> bookService.getBookByIdAndUserId(user.getId(), bookId, EnumSet.of(BookField.ID)));
+	}
+
+	@Test
+	void testGetBooksByIds() throws BookResourceException {
+		Book book1 = Book.builder().id(1L).build();
+		Book book3 = Book.builder().id(3L).build();
+		when(bookRepository.findBooksByUserIdAndIdIn(user.getId(), List.of(3L, 2L, 1L)))
+				.thenReturn(List.of(book1, book3));
+
+		BookBatch result = bookService.getBooksByIdsAndUserId(user.getId(), List.of(3L, 2L, 1L, 3L));
+
+		assertEquals(List.of(book3, book1), result.getBooks());
+		assertEquals(List.of(2L), result.getMissingIds());
+	}
+
+	@Test
+	void testGetBooksByIdsInChunks() throws BookResourceException {
+		List<Long> bookIds = LongStream.rangeClosed(1, 501).boxed().toList();
+
+		BookBatch result = bookService.getBooksByIdsAndUserId(user.getId(), bookIds);
+
+		verify(bookRepository, times(1)).findBooksByUserIdAndIdIn(user.getId(), bookIds.subList(0, 500));
+		verify(bookRepository, times(1)).findBooksByUserIdAndIdIn(user.getId(), List.of(501L));
+		assertEquals(bookIds, result.getMissingIds());
+	}
+
+	@Test
+	void testGetBooksByTooManyIds() {
+		List<Long> bookIds = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+		BookResourceException exception = assertThrows(BookResourceException.class,
+				() -> bookService.getBooksByIdsAndUserId(user.getId(), bookIds));
+
+		assertEquals("TooManyIds", exception.getErrorCode());
+		verify(bookRepository, never()).findBooksByUserIdAndIdIn(anyLong(), any());
 	}
 
 	@Test
@@ -110,6 +184,8 @@ class BookServiceImplTests {
 		assertNotNull(result);
 		assertEquals(bookToCreate, result);
 		verify(bookRepository, times(1)).save(bookToCreate);
+		verify(outbox, times(1)).record("Book", bookToCreate.getId(), user.getId(), OutboxEvent.Type.CREATED);
+		verify(userService, times(1)).addToBookCount(user.getId(), 1);
 	}
 
 	@Test
@@ -134,6 +210,23 @@ class BookServiceImplTests {
 		verify(bookRepository, times(1)).save(bookToCreate);
 	}
 
+	@Test
+	void testCreateBookFlushError() throws UserResourceException {
+		CreateBookForm createBookForm = CreateBookForm.builder()
+				.title("newBook")
+				.description("newDescription")
+				.author("newAuthor")
+				.build();
+
+		when(userService.getUserById(user.getId())).thenReturn(user);
+		when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		doThrow(DataIntegrityViolationException.class).when(bookRepository).flush();
+
+		BookResourceException exception = assertThrows(BookResourceException.class,
+				() -> bookService.createBookForUser(user.getId(), createBookForm));
+		assertEquals("CreateBookError", exception.getErrorCode());
+	}
+
 	@Test
 	void testUpdateBook() throws BookResourceException {
 		UpdateBookForm updateBookForm = UpdateBookForm.builder()
@@ -160,6 +253,7 @@ class BookServiceImplTests {
 		assertEquals(updateBookForm.getAuthor(), existingBook.getAuthor());
 		verify(bookRepository, times(1)).findByIdAndUserId(user.getId(), existingBook.getId());
 		verify(bookRepository, times(1)).save(existingBook);
+		verify(outbox, times(1)).record("Book", existingBook.getId(), user.getId(), OutboxEvent.Type.UPDATED);
 	}
 
 	@Test
@@ -208,6 +302,9 @@ class BookServiceImplTests {
 
 		verify(bookRepository, times(1)).findByIdAndUserId(user.getId(), bookId);
 		verify(bookRepository, times(1)).delete(existingBook);
+		verify(bookTombstoneRepository, times(1)).save(any(BookTombstone.class));
+		verify(outbox, times(1)).record("Book", bookId, user.getId(), OutboxEvent.Type.DELETED);
+		verify(userService, times(1)).addToBookCount(user.getId(), -1);
 	}
 
 	@Test
@@ -240,4 +337,61 @@ class BookServiceImplTests {
 		verify(bookRepository, times(1)).findByIdAndUserId(user.getId(), bookId);
 	}
 
+	@Test
+	void testDeleteBookFlushError() {
+		Long bookId = 1L;
+
+		Book existingBook = Book.builder()
+				.id(bookId)
+				.title("book1")
+				.description("description")
+				.author("author")
+				.build();
+
+		when(bookRepository.findByIdAndUserId(user.getId(), bookId)).thenReturn(Optional.of(existingBook));
+		doThrow(DataIntegrityViolationException.class).when(bookRepository).flush();
+
+		BookResourceException exception = assertThrows(BookResourceException.class,
+				() -> bookService.deleteBookForUser(user.getId(), bookId));
+		assertEquals("DeleteBookError", exception.getErrorCode());
+	}
+
+	@Test
+	void testGetBookChangesWithoutToken() throws BookResourceException {
+		List<Book> books = List.of(Book.builder().id(1L).changeSeq(5L).build());
+		when(bookRepository.findBooksChangedSince(user.getId(), -1L)).thenReturn(books);
+
+		BookChanges result = bookService.getBookChangesSince(user.getId(), null);
+
+		assertEquals(books, result.getBooks());
+		assertTrue(result.getDeletedIds().isEmpty());
+		assertTrue(result.getToken() > 0);
+		verify(bookTombstoneRepository, never()).findBookIdsDeletedSince(eq(user.getId()), anyLong());
+	}
+
+	@Test
+	void testGetBookChangesSinceToken() throws BookResourceException {
+		long since = BookChangeSequence.next();
+		when(bookRepository.findBooksChangedSince(user.getId(), since)).thenReturn(List.of());
+		when(bookTombstoneRepository.findBookIdsDeletedSince(user.getId(), since)).thenReturn(List.of(2L));
+
+		BookChanges result = bookService.getBookChangesSince(user.getId(), String.valueOf(since));
+
+		assertEquals(List.of(2L), result.getDeletedIds());
+		assertEquals(since, result.getToken());
+	}
+
+	@Test
+	void testGetBookChangesInvalidToken() {
+		assertThrows(BookResourceException.class, () -> bookService.getBookChangesSince(user.getId(), "invalid"));
+	}
+
+	@Test
+	void testCountBooks() throws UserResourceException {
+		when(userService.getBookCount(user.getId())).thenReturn(3L);
+
+		assertEquals(3L, bookService.countBooksByUserId(user.getId()));
+		verify(bookRepository, never()).findBooksByUserId(user.getId());
+	}
+
 }
@@ -0,0 +1,128 @@
+package com.jeremw.bookstore.api.config.cache;
+
+import com.jeremw.bookstore.api.book.Book;
+import com.jeremw.bookstore.api.book.BookRepository;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@SpringBootTest
+class SecondLevelCacheTests {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		user = userRepository.findByUsername("cached-user")
+				.orElseGet(() -> userRepository.save(User.builder()
+						.username("cached-user")
+						.email("cached-user@book-api.fr")
+						.password("password")
+						.build()));
+	}
+
+	@Test
+	void findByUsername_SecondLookup_ShouldHitQueryCache() {
+		userRepository.findByUsername(user.getUsername());
+		long queryCacheHits = statistics.getQueryCacheHitCount();
+		long queries = statistics.getPrepareStatementCount();
+
+		userRepository.findByUsername(user.getUsername());
+
+		assertEquals(queryCacheHits + 1, statistics.getQueryCacheHitCount());
+		assertEquals(queries, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void findById_SecondLookup_ShouldHitEntityCache() {
+		userRepository.findById(user.getId());
+		long entityCacheHits = statistics.getDomainDataRegionStatistics("user").getHitCount();
+
+		userRepository.findById(user.getId());
+
+		assertEquals(entityCacheHits + 1, statistics.getDomainDataRegionStatistics("user").getHitCount());
+	}
+
+	@Test
+	void bulkUpdate_ShouldEvictCachedUsers() {
+		userRepository.findById(user.getId());
+
+		transactionTemplate.executeWithoutResult(status -> entityManager
+				.createQuery("update User u set u.email = :email where u.id = :id")
+				.setParameter("email", "bulk-updated@book-api.fr")
+				.setParameter("id", user.getId())
+				.executeUpdate());
+
+		assertEquals("bulk-updated@book-api.fr", userRepository.findById(user.getId()).orElseThrow().getEmail());
+		assertEquals("bulk-updated@book-api.fr",
+				userRepository.findByUsername(user.getUsername()).orElseThrow().getEmail());
+	}
+
+	@Test
+	void bulkUpdate_ShouldEvictCachedBooks() {
+		Book book = bookRepository.save(Book.builder()
+				.title("title")
+				.description("description")
+				.author("author")
+				.user(user)
+				.build());
+		bookRepository.findById(book.getId());
+
+		transactionTemplate.executeWithoutResult(status -> entityManager
+				.createQuery("update Book b set b.author = :author where b.id = :id")
+				.setParameter("author", "bulk-updated")
+				.setParameter("id", book.getId())
+				.executeUpdate());
+
+		assertEquals("bulk-updated", bookRepository.findById(book.getId()).orElseThrow().getAuthor());
+	}
+
+	@Test
+	void statistics_ShouldBePublishedAsMetrics() {
+		userRepository.findByUsername(user.getUsername());
+
+		assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", "user").meter());
+		assertTrue(meterRegistry.find("hibernate.cache.query.requests").meters().size() > 0);
+	}
+
+}
@@ -0,0 +1,188 @@
+package com.jeremw.bookstore.api.config.coalescing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class SingleFlightTests {
+
+	private static final int CALLERS = 4;
+
+	private MeterRegistry meterRegistry;
+
+	private Reads reads;
+
+	private Reads coalescedReads;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		reads = new Reads();
+
+		AspectJProxyFactory proxyFactory = new AspectJProxyFactory(reads);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(new SingleFlightAspect(new SingleFlight(Duration.ofSeconds(5), meterRegistry)));
+		coalescedReads = proxyFactory.getProxy();
+	}
+
+	@Test
+	void execute_ConcurrentIdenticalCalls_ShouldShareOneExecution() throws Exception {
+		List<CompletableFuture<String>> results = callConcurrently(() -> coalescedReads.read("key"));
+
+		assertEquals(1, reads.executions.get());
+		for (CompletableFuture<String> result : results) {
+			assertEquals("key", result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, count("executed"));
+		assertEquals(CALLERS - 1, count("coalesced"));
+	}
+
+	@Test
+	void execute_ConcurrentFailingCalls_ShouldShareTheException() throws Exception {
+		reads.failure = new IllegalStateException("failed");
+
+		List<CompletableFuture<String>> results = callConcurrently(() -> coalescedReads.read("key"));
+
+		assertEquals(1, reads.executions.get());
+		for (CompletableFuture<String> result : results) {
+			ExecutionException exception = assertThrows(ExecutionException.class,
+					() -> result.get(5, TimeUnit.SECONDS));
+			assertSame(reads.failure, exception.getCause());
+		}
+	}
+
+	@Test
+	void execute_DifferentArguments_ShouldNotBeCoalesced() {
+		reads.release.countDown();
+
+		coalescedReads.read("first");
+		coalescedReads.read("second");
+
+		assertEquals(2, reads.executions.get());
+	}
+
+	@Test
+	void execute_WaitingLongerThanTimeout_ShouldExecuteItself() throws Throwable {
+		SingleFlight singleFlight = new SingleFlight(Duration.ofMillis(50), meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Object> slow = CompletableFuture.supplyAsync(() -> {
+			try {
+				return singleFlight.execute("slow", "key", () -> release.await(5, TimeUnit.SECONDS));
+			}
+			catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		while (singleFlight.inFlight() == 0) {
+			Thread.onSpinWait();
+		}
+
+		assertEquals("fast", singleFlight.execute("slow", "key", () -> "fast"));
+
+		release.countDown();
+		slow.get(5, TimeUnit.SECONDS);
+		assertEquals(1, meterRegistry.get("single-flight.calls").tag("outcome", "timed-out").counter().count());
+	}
+
+	@Test
+	void execute_WithinTransaction_ShouldNotBeCoalesced() {
+		reads.release.countDown();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			coalescedReads.read("key");
+		}
+		finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		assertEquals(0, meterRegistry.find("single-flight.calls").counters().size());
+	}
+
+	private List<CompletableFuture<String>> callConcurrently(Supplier<String> call)
+			throws InterruptedException {
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		List<Thread> callers = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			CompletableFuture<String> result = new CompletableFuture<>();
+			Thread caller = new Thread(() -> {
+				try {
+					result.complete(call.get());
+				}
+				catch (RuntimeException e) {
+					result.completeExceptionally(e);
+				}
+			});
+			results.add(result);
+			callers.add(caller);
+			caller.start();
+		}
+
+		for (Thread caller : callers) {
+			while (caller.getState() != Thread.State.WAITING && caller.getState() != Thread.State.TIMED_WAITING) {
+				Thread.onSpinWait();
+			}
+		}
+		reads.release.countDown();
+		for (Thread caller : callers) {
+			caller.join(5000);
+		}
+		return results;
+	}
+
+	private double count(String outcome) {
+		return meterRegistry.get("single-flight.calls").tag("name", "Reads.read").tag("outcome", outcome).counter()
+				.count();
+	}
+
+	/**
+	 * Reads blocking until released, to hold the first call in flight.
+	 */
+	static class Reads {
+
+		private final AtomicInteger executions = new AtomicInteger();
+
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		private RuntimeException failure;
+
+		@Coalesced
+		public String read(String key) {
+			executions.incrementAndGet();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			return key;
+		}
+
+	}
+
+}
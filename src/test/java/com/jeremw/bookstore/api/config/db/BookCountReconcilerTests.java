@@ -0,0 +1,82 @@
+package com.jeremw.bookstore.api.config.db;
+
+import com.jeremw.bookstore.api.book.Book;
+import com.jeremw.bookstore.api.book.BookService;
+import com.jeremw.bookstore.api.book.dto.CreateBookForm;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserService;
+import com.jeremw.bookstore.api.user.dto.CreateUserForm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the maintenance and the reconciliation of the user book counts.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@SpringBootTest(properties = "purge.enabled=false")
+class BookCountReconcilerTests {
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private BookCountReconciler bookCountReconciler;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		user = userService.createUser(CreateUserForm.builder()
+				.username("counted-" + System.nanoTime())
+				.email("counted@book-api.fr")
+				.password("password")
+				.build());
+	}
+
+	@Test
+	void bookCount_ShouldFollowCreatesAndDeletes() throws Exception {
+		Book book = bookService.createBookForUser(user.getId(), createBookForm());
+		bookService.createBookForUser(user.getId(), createBookForm());
+
+		assertEquals(2, bookService.countBooksByUserId(user.getId()));
+
+		bookService.deleteBookForUser(user.getId(), book.getId());
+
+		assertEquals(1, bookService.countBooksByUserId(user.getId()));
+	}
+
+	@Test
+	void reconcile_DriftedCount_ShouldBeCorrected() throws Exception {
+		bookService.createBookForUser(user.getId(), createBookForm());
+		jdbcTemplate.update("update user_book_count set book_count = 42 where user_id = ?", user.getId());
+
+		assertTrue(bookCountReconciler.reconcile() >= 1);
+
+		assertEquals(1, bookService.countBooksByUserId(user.getId()));
+	}
+
+	private static CreateBookForm createBookForm() {
+		return CreateBookForm.builder()
+				.title("title")
+				.description("description")
+				.author("author")
+				.build();
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.jeremw.bookstore.api.config.db;
+
+import com.jeremw.bookstore.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@SpringBootTest
+class LoadDatabaseTests {
+
+	@Autowired
+	private CommandLineRunner initDatabase;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void initDatabase_AlreadyInitialized_ShouldSkip() {
+		long users = userRepository.count();
+
+		assertDoesNotThrow(() -> initDatabase.run());
+
+		assertEquals(users, userRepository.count());
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.jeremw.bookstore.api.book.Book;
+import com.jeremw.bookstore.api.book.BookField;
+import com.jeremw.bookstore.api.book.BookRowHandler;
+import com.jeremw.bookstore.api.book.BookService;
+import com.jeremw.bookstore.api.book.dto.BookDto;
+import com.jeremw.bookstore.api.book.dto.CreateBookForm;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the routing against two local H2 databases, the replica being fed from the primary
+ * only when the tests ask for it.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@SpringBootTest(properties = {
+		"datasource.replica.enabled=true",
+		"datasource.replica.url=jdbc:h2:mem:routing-tests-replica;DB_CLOSE_DELAY=-1",
+		"datasource.replica.username=sa",
+		"datasource.replica.max-lag=1s",
+		"datasource.replica.heartbeat-interval=PT1H",
+		"datasource.replica.local-feed.enabled=true",
+		"datasource.replica.local-feed.interval=PT1H" })
+class ReadWriteRoutingTests {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private LocalReplicaFeeder localReplicaFeeder;
+
+	@Autowired
+	private ReplicaLagMonitor replicaLagMonitor;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserService userService;
+
+	@BeforeEach
+	void setUp() {
+		catchUpReplica();
+	}
+
+	@Test
+	void readOnlyTransaction_ShouldBeRoutedToReplica() {
+		assertTrue(replicaLagMonitor.isReplicaUsable());
+
+		assertEquals("ROUTING-TESTS-REPLICA", currentDatabase(true));
+		assertFalse(currentDatabase(false).contains("REPLICA"));
+	}
+
+	@Test
+	void forEachBookByUserId_ShouldReadFromReplica() throws Exception {
+		User user = userService.findUserByUsername("root");
+		Book book = bookService.createBookForUser(user.getId(),
+				CreateBookForm.builder().title("title").description("description").author("author").build());
+
+		assertFalse(bookIds(user).contains(book.getId()));
+
+		catchUpReplica();
+
+		assertTrue(bookIds(user).contains(book.getId()));
+	}
+
+	@Test
+	void laggingReplica_ShouldFallBackToPrimary() throws InterruptedException {
+		Thread.sleep(1200);
+		replicaLagMonitor.heartbeat();
+
+		assertFalse(replicaLagMonitor.isReplicaUsable());
+		assertFalse(currentDatabase(true).contains("REPLICA"));
+	}
+
+	private List<Long> bookIds(User user) throws IOException {
+		List<Long> bookIds = new ArrayList<>();
+		bookService.forEachBookByUserId(user.getId(), EnumSet.noneOf(BookField.class), new BookRowHandler() {
+
+			@Override
+			public void begin(long total) {
+			}
+
+			@Override
+			public void handle(BookDto book) {
+				bookIds.add(book.getId());
+			}
+
+		});
+		return bookIds;
+	}
+
+	private void catchUpReplica() {
+		replicaLagMonitor.heartbeat();
+		localReplicaFeeder.feed();
+		replicaLagMonitor.heartbeat();
+	}
+
+	private String currentDatabase(boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(
+				status -> new JdbcTemplate(dataSource).queryForObject("select database()", String.class));
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.util.List;
+
+import com.jeremw.bookstore.api.book.BookRepository;
+import com.jeremw.bookstore.api.config.monitoring.SqlStatementCounter;
+import com.jeremw.bookstore.api.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL generated for the hot repository queries and checks
+ * that each one is served by an index of the migrations.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@SpringBootTest
+class SchemaIndexTests {
+
+	@SpyBean
+	private SqlStatementCounter sqlStatementCounter;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	/**
+	 * H2 always backs the foreign key with its own index on {@code user_id}, which holds the
+	 * row ids in order and is therefore preferred to {@code idx_book_user_id_id}; the plan
+	 * is only checked for an index lookup on {@code user_id}.
+	 */
+	@Test
+	void findBooksByUserId_ShouldUseUserIdIndex() {
+		String plan = explain(captureSql(() -> bookRepository.findBooksByUserId(1L)), "1");
+
+		assertFalse(plan.contains("tableScan"), plan);
+		assertTrue(plan.matches("(?s).*/\\* PUBLIC\\.\\w+: USER_ID = .*"), plan);
+	}
+
+	@Test
+	void findByIdAndUserId_ShouldNotScanBooks() {
+		String plan = explain(captureSql(() -> bookRepository.findByIdAndUserId(1L, 1L)), "1");
+
+		assertFalse(plan.contains("tableScan"), plan);
+	}
+
+	@Test
+	void findByUsername_ShouldUseUsernameIndex() {
+		String plan = explain(captureSql(() -> userRepository.findByUsername("root")), "'root'");
+
+		assertTrue(plan.contains("UK_USER_APP_USERNAME"), plan);
+	}
+
+	@Test
+	void expiredTokens_ShouldUseExpiryDateIndex() {
+		String plan = explain("select id from refresh_token where expiry_date < ?", "current_timestamp");
+
+		assertTrue(plan.contains("IDX_REFRESH_TOKEN_EXPIRY_DATE"), plan);
+	}
+
+	private String captureSql(Runnable query) {
+		clearInvocations(sqlStatementCounter);
+		query.run();
+
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		verify(sqlStatementCounter, atLeastOnce()).inspect(sql.capture());
+		List<String> statements = sql.getAllValues();
+		return statements.get(statements.size() - 1);
+	}
+
+	private String explain(String sql, String parameterValue) {
+		return jdbcTemplate.queryForObject("explain " + sql.replace("?", parameterValue), String.class);
+	}
+
+}
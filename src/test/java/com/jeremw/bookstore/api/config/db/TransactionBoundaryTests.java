@@ -0,0 +1,81 @@
+package com.jeremw.bookstore.api.config.db;
+
+import java.time.Instant;
+
+import com.jeremw.bookstore.api.auth.RefreshToken;
+import com.jeremw.bookstore.api.auth.RefreshTokenRepository;
+import com.jeremw.bookstore.api.auth.RefreshTokenResourceException;
+import com.jeremw.bookstore.api.auth.RefreshTokenService;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserResourceException;
+import com.jeremw.bookstore.api.user.UserService;
+import com.jeremw.bookstore.api.user.dto.CreateUserForm;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the behavior of the service transaction boundaries with open-in-view disabled.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@SpringBootTest
+class TransactionBoundaryTests {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private RefreshTokenService refreshTokenService;
+
+	@Autowired
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@Value("${spring.jpa.open-in-view}")
+	private boolean openInView;
+
+	@Test
+	void openInView_ShouldBeDisabled() {
+		assertFalse(openInView);
+	}
+
+	@Test
+	void createUser_DuplicateUsername_ShouldBeReportedAsConflict() {
+		CreateUserForm createUserForm = CreateUserForm.builder()
+				.username("root")
+				.email("root@book-api.fr")
+				.password("password")
+				.build();
+
+		UserResourceException exception = assertThrows(UserResourceException.class,
+				() -> userService.createUser(createUserForm));
+
+		assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+	}
+
+	@Test
+	void generateNewToken_ExpiredToken_ShouldCommitTheDeletion() throws UserResourceException {
+		User user = userService.findUserByUsername("root");
+		RefreshToken expiredToken = refreshTokenRepository.save(RefreshToken.builder()
+				.user(user)
+				.token("expired-token")
+				.expiryDate(Instant.now().minusSeconds(60))
+				.build());
+
+		assertThrows(RefreshTokenResourceException.class,
+				() -> refreshTokenService.generateNewToken(expiredToken.getToken()));
+
+		assertTrue(refreshTokenRepository.findByToken(expiredToken.getToken()).isEmpty());
+	}
+
+}
@@ -0,0 +1,125 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeremw.bookstore.api.book.dto.BookDto;
+import com.jeremw.bookstore.api.book.dto.CreateBookForm;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Checks the replay of the creations carrying an idempotency key.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTests {
+
+	@Autowired
+	private MockMvc mvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.findByUsername("idempotency")
+				.orElseGet(() -> userRepository.save(User.builder()
+						.username("idempotency")
+						.email("idempotency@book-api.fr")
+						.password("password")
+						.build()));
+	}
+
+	@Test
+	void createBook_RetriedWithSameKey_ShouldReplayFirstResponse() throws Exception {
+		MockHttpServletResponse first = createBook("retried-key", "title");
+		MockHttpServletResponse retry = createBook("retried-key", "title");
+
+		assertEquals(201, first.getStatus());
+		assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+		assertEquals(201, retry.getStatus());
+		assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+		assertEquals(first.getHeader("Location"), retry.getHeader("Location"));
+		assertEquals(bookId(first), bookId(retry));
+	}
+
+	@Test
+	void createBook_WithAnotherKey_ShouldCreateAnotherBook() throws Exception {
+		MockHttpServletResponse first = createBook("first-key", "title");
+		MockHttpServletResponse second = createBook("second-key", "title");
+
+		assertNotEquals(bookId(first), bookId(second));
+	}
+
+	@Test
+	void createBook_SameKeyWithAnotherBody_ShouldBeRejected() throws Exception {
+		createBook("reused-key", "title");
+
+		MockHttpServletResponse reused = createBook("reused-key", "another title");
+
+		assertEquals(422, reused.getStatus());
+	}
+
+	@Test
+	void createBook_WithBlankKey_ShouldBeBadRequest() throws Exception {
+		assertEquals(400, createBook(" ", "title").getStatus());
+	}
+
+	@Test
+	void createBook_CorsPreflightWithKey_ShouldAllowKey() throws Exception {
+		MockHttpServletResponse preflight = mvc.perform(options("/users/" + user.getId() + "/books")
+						.header(HttpHeaders.ORIGIN, "http://localhost:3001")
+						.header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST")
+						.header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, IdempotencyFilter.IDEMPOTENCY_KEY_HEADER))
+				.andReturn().getResponse();
+
+		assertEquals(200, preflight.getStatus());
+		assertTrue(preflight.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS)
+				.contains(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER));
+	}
+
+	private MockHttpServletResponse createBook(String idempotencyKey, String title) throws Exception {
+		CreateBookForm createBookForm = CreateBookForm.builder()
+				.title(title)
+				.description("description")
+				.author("author")
+				.build();
+
+		return mvc.perform(post("/users/" + user.getId() + "/books").with(user(user))
+						.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+						.content(objectMapper.writeValueAsString(createBookForm))
+						.contentType(MediaType.APPLICATION_JSON))
+				.andReturn().getResponse();
+	}
+
+	private Long bookId(MockHttpServletResponse response) throws Exception {
+		return objectMapper.readValue(response.getContentAsString(), BookDto.class).getId();
+	}
+
+}
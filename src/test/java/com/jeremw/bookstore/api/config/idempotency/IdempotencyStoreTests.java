@@ -0,0 +1,169 @@
+package com.jeremw.bookstore.api.config.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the claims of the idempotency keys, in memory and in the database.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@SpringBootTest
+class IdempotencyStoreTests {
+
+	private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+	private static final IdempotentResponse RESPONSE = new IdempotentResponse(201, "application/json",
+			"/books", "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void inMemory_ConcurrentDuplicate_ShouldWaitForResponse() throws Exception {
+		assertWaitsForResponse(new InMemoryIdempotencyStore(100, Duration.ofHours(1)));
+	}
+
+	@Test
+	void jdbc_ConcurrentDuplicate_ShouldWaitForResponse() throws Exception {
+		assertWaitsForResponse(jdbcStore(Duration.ofMinutes(1)));
+	}
+
+	@Test
+	void inMemory_Released_ShouldBeClaimedAgain() throws Exception {
+		assertClaimedAgainWhenReleased(new InMemoryIdempotencyStore(100, Duration.ofHours(1)));
+	}
+
+	@Test
+	void jdbc_Released_ShouldBeClaimedAgain() throws Exception {
+		assertClaimedAgainWhenReleased(jdbcStore(Duration.ofMinutes(1)));
+	}
+
+	@Test
+	void inMemory_AnotherFingerprint_ShouldBeRejected() throws Exception {
+		assertRejectsAnotherFingerprint(new InMemoryIdempotencyStore(100, Duration.ofHours(1)));
+	}
+
+	@Test
+	void jdbc_AnotherFingerprint_ShouldBeRejected() throws Exception {
+		assertRejectsAnotherFingerprint(jdbcStore(Duration.ofMinutes(1)));
+	}
+
+	@Test
+	void inMemory_InFlightTooLong_ShouldTimeOut() throws Exception {
+		IdempotencyStore store = new InMemoryIdempotencyStore(100, Duration.ofHours(1));
+		String key = UUID.randomUUID().toString();
+		assertNull(store.claim(key, "owner", "fingerprint", WAIT_TIMEOUT));
+
+		IdempotencyKeyException exception = assertThrows(IdempotencyKeyException.class,
+				() -> store.claim(key, "retry", "fingerprint", Duration.ofMillis(50)));
+
+		assertEquals("IdempotencyKeyInProgress", exception.getErrorCode());
+	}
+
+	@Test
+	void jdbc_Abandoned_ShouldBeTakenOver() throws Exception {
+		IdempotencyStore store = jdbcStore(Duration.ZERO);
+		String key = UUID.randomUUID().toString();
+		assertNull(store.claim(key, "owner", "fingerprint", WAIT_TIMEOUT));
+
+		Thread.sleep(10);
+
+		assertNull(store.claim(key, "retry", "fingerprint", WAIT_TIMEOUT));
+	}
+
+	@Test
+	void jdbc_TakenOver_ShouldOnlyBeCompletedByNewOwner() throws Exception {
+		IdempotencyStore store = jdbcStore(Duration.ZERO);
+		String key = UUID.randomUUID().toString();
+		assertNull(store.claim(key, "owner", "fingerprint", WAIT_TIMEOUT));
+		Thread.sleep(10);
+		assertNull(store.claim(key, "retry", "fingerprint", WAIT_TIMEOUT));
+
+		store.release(key, "owner");
+
+		assertFalse(store.complete(key, "owner", RESPONSE));
+		assertTrue(store.complete(key, "retry", RESPONSE));
+	}
+
+	@Test
+	void inMemory_ReleasedByAnotherOwner_ShouldStayClaimed() throws Exception {
+		IdempotencyStore store = new InMemoryIdempotencyStore(100, Duration.ofHours(1));
+		String key = UUID.randomUUID().toString();
+		assertNull(store.claim(key, "owner", "fingerprint", WAIT_TIMEOUT));
+
+		store.release(key, "another owner");
+
+		assertFalse(store.complete(key, "another owner", RESPONSE));
+		assertTrue(store.complete(key, "owner", RESPONSE));
+	}
+
+	private void assertWaitsForResponse(IdempotencyStore store) throws Exception {
+		String key = UUID.randomUUID().toString();
+		assertNull(store.claim(key, "owner", "fingerprint", WAIT_TIMEOUT));
+
+		CompletableFuture<IdempotentResponse> retry = CompletableFuture.supplyAsync(() -> claim(store, key));
+		Thread.sleep(100);
+		assertTrue(store.complete(key, "owner", RESPONSE));
+
+		IdempotentResponse replayed = retry.get(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+		assertEquals(RESPONSE.status(), replayed.status());
+		assertEquals(RESPONSE.location(), replayed.location());
+		assertArrayEquals(RESPONSE.body(), replayed.body());
+	}
+
+	private void assertClaimedAgainWhenReleased(IdempotencyStore store) throws Exception {
+		String key = UUID.randomUUID().toString();
+		assertNull(store.claim(key, "owner", "fingerprint", WAIT_TIMEOUT));
+
+		CompletableFuture<IdempotentResponse> retry = CompletableFuture.supplyAsync(() -> claim(store, key));
+		Thread.sleep(100);
+		store.release(key, "owner");
+
+		assertNull(retry.get(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+	}
+
+	private void assertRejectsAnotherFingerprint(IdempotencyStore store) throws Exception {
+		String key = UUID.randomUUID().toString();
+		assertNull(store.claim(key, "owner", "fingerprint", WAIT_TIMEOUT));
+		store.complete(key, "owner", RESPONSE);
+
+		IdempotencyKeyException exception = assertThrows(IdempotencyKeyException.class,
+				() -> store.claim(key, "retry", "another fingerprint", WAIT_TIMEOUT));
+
+		assertEquals("IdempotencyKeyMismatch", exception.getErrorCode());
+	}
+
+	private JdbcIdempotencyStore jdbcStore(Duration inFlightTimeout) {
+		return new JdbcIdempotencyStore(dataSource, Duration.ofHours(1), inFlightTimeout);
+	}
+
+	private static IdempotentResponse claim(IdempotencyStore store, String key) {
+		try {
+			return store.claim(key, "retry", "fingerprint", WAIT_TIMEOUT);
+		}
+		catch (IdempotencyKeyException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.jeremw.bookstore.api.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class SamplingTurboFilterTests {
+
+	private LoggerContext loggerContext;
+
+	private ListAppender<ILoggingEvent> appender;
+
+	@BeforeEach
+	void setUp() {
+		loggerContext = new LoggerContext();
+
+		SamplingTurboFilter samplingTurboFilter = new SamplingTurboFilter();
+		samplingTurboFilter.setRules("com.jeremw=0.5, com.jeremw.bookstore.api.book=0.1, com.jeremw.muted=0");
+		samplingTurboFilter.setContext(loggerContext);
+		samplingTurboFilter.start();
+		loggerContext.addTurboFilter(samplingTurboFilter);
+
+		appender = new ListAppender<>();
+		appender.setContext(loggerContext);
+		appender.start();
+
+		Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+		root.setLevel(Level.INFO);
+		root.addAppender(appender);
+	}
+
+	@Test
+	void decide_MostSpecificRule_ShouldKeepConfiguredFraction() {
+		Logger logger = loggerContext.getLogger("com.jeremw.bookstore.api.book.BookServiceImpl");
+
+		for (int i = 0; i < 100; i++) {
+			logger.info("Fetching all books for user id {}", i);
+		}
+
+		assertEquals(10, appender.list.size());
+	}
+
+	@Test
+	void decide_ParentRule_ShouldApplyToChildCategories() {
+		Logger logger = loggerContext.getLogger("com.jeremw.bookstore.api.user.UserServiceImpl");
+
+		for (int i = 0; i < 100; i++) {
+			logger.info("Getting user by ID: {}", i);
+		}
+
+		assertEquals(50, appender.list.size());
+	}
+
+	@Test
+	void decide_WarningsAndUnmatchedCategories_ShouldNeverBeSampled() {
+		Logger muted = loggerContext.getLogger("com.jeremw.muted.Service");
+		Logger other = loggerContext.getLogger("org.springframework.Other");
+
+		for (int i = 0; i < 10; i++) {
+			muted.info("dropped");
+			muted.warn("kept");
+			other.info("kept");
+		}
+
+		assertEquals(20, appender.list.size());
+	}
+
+	@Test
+	void decide_DisabledLevel_ShouldNotConsumeSamples() {
+		Logger logger = loggerContext.getLogger("com.jeremw.bookstore.api.book.BookControllerImpl");
+
+		for (int i = 0; i < 100; i++) {
+			logger.debug("Not enabled");
+		}
+		logger.info("First enabled event");
+
+		assertEquals(1, appender.list.size());
+	}
+
+	@Test
+	void setRules_MalformedRate_ShouldIgnoreRule() {
+		SamplingTurboFilter samplingTurboFilter = new SamplingTurboFilter();
+		samplingTurboFilter.setContext(loggerContext);
+
+		samplingTurboFilter.setRules("com.jeremw.muted=none, com.jeremw.other=0");
+
+		Logger logger = loggerContext.getLogger("com.jeremw.muted.Service");
+		assertEquals(FilterReply.NEUTRAL, samplingTurboFilter.decide(null, logger, Level.INFO, "kept", null, null));
+		assertEquals(FilterReply.DENY, samplingTurboFilter.decide(null,
+				loggerContext.getLogger("com.jeremw.other.Service"), Level.INFO, "dropped", null, null));
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import com.jeremw.bookstore.api.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@SpringBootTest
+class ConnectionPoolEndpointTests {
+
+	@Autowired
+	private ConnectionPoolEndpoint connectionPoolEndpoint;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void poolMetrics_ShouldBeRegistered() {
+		for (String name : new String[] { "hikaricp.connections.active", "hikaricp.connections.idle",
+				"hikaricp.connections.pending", "hikaricp.connections.timeout", "hikaricp.connections.acquire" }) {
+			assertNotNull(meterRegistry.find(name).tag("pool", "books-pool").meter(), name);
+		}
+	}
+
+	@Test
+	void advice_AfterQueries_ShouldMeasureAcquisitions() {
+		for (int i = 0; i < 20; i++) {
+			userRepository.count();
+		}
+
+		ConnectionPoolAdvice advice = connectionPoolEndpoint.advice();
+
+		assertEquals("books-pool", advice.getPoolName());
+		assertTrue(advice.getAcquisitionRate() > 0);
+		assertTrue(advice.getSuggestedPoolSize() >= 2 && advice.getSuggestedPoolSize() <= 50);
+	}
+
+	@Test
+	void advice_ReadTwice_ShouldKeepTheWindow() {
+		for (int i = 0; i < 20; i++) {
+			userRepository.count();
+		}
+
+		ConnectionPoolAdvice first = connectionPoolEndpoint.advice();
+		ConnectionPoolAdvice second = connectionPoolEndpoint.advice();
+
+		assertTrue(second.getWindowSeconds() >= first.getWindowSeconds());
+		assertTrue(second.getAcquisitionRate() > 0);
+	}
+
+	@Test
+	void resize_ShouldStartANewWindow() throws InterruptedException {
+		int size = connectionPoolEndpoint.advice().getMaximumPoolSize();
+		connectionPoolEndpoint.resize(size);
+		Thread.sleep(200);
+		ConnectionPoolAdvice before = connectionPoolEndpoint.advice();
+
+		ConnectionPoolAdvice after = connectionPoolEndpoint.resize(size);
+
+		assertTrue(before.getWindowSeconds() >= 0.2);
+		assertTrue(after.getWindowSeconds() < before.getWindowSeconds());
+	}
+
+	@Test
+	void resize_ShouldApplyThePoolSize() {
+		int initialSize = connectionPoolEndpoint.advice().getMaximumPoolSize();
+		try {
+			assertEquals(4, connectionPoolEndpoint.resize(4).getMaximumPoolSize());
+		}
+		finally {
+			connectionPoolEndpoint.resize(initialSize);
+		}
+	}
+
+	@Test
+	void suggestPoolSize_ShouldAddHeadroomWithinBounds() {
+		assertEquals(2, connectionPoolEndpoint.suggestPoolSize(0.1));
+		assertEquals(12, connectionPoolEndpoint.suggestPoolSize(10));
+		assertEquals(50, connectionPoolEndpoint.suggestPoolSize(1000));
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class ServerTimingFilterTests {
+
+	private ServerTimingFilter serverTimingFilter;
+
+	@BeforeEach
+	void setUp() {
+		serverTimingFilter = new ServerTimingFilter();
+		ReflectionTestUtils.setField(serverTimingFilter, "enabled", true);
+		ReflectionTestUtils.setField(serverTimingFilter, "accessLog", true);
+	}
+
+	@Test
+	void doFilter_WritingBody_ShouldSendRecordedPhasesBeforeBody() throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1/books");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		FilterChain filterChain = (req, res) -> {
+			try (RequestTimings.Phase ignored = RequestTimings.begin(RequestTimings.SERVICE)) {
+				try (RequestTimings.Phase nested = RequestTimings.begin(RequestTimings.SERVICE)) {
+					RequestTimings.begin(RequestTimings.DATABASE).close();
+				}
+			}
+			res.getOutputStream().write("[]".getBytes());
+		};
+
+		serverTimingFilter.doFilter(request, response, filterChain);
+
+		String header = response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER);
+		assertNotNull(header);
+		assertTrue(header.startsWith("db;dur="));
+		assertTrue(header.contains(", svc;dur="));
+		assertTrue(header.contains(", total;dur="));
+		assertEquals(1, header.split("svc;").length - 1);
+		assertEquals("[]", response.getContentAsString());
+		assertNull(RequestTimings.current());
+	}
+
+	@Test
+	void doFilter_WithoutBody_ShouldStillSendHeader() throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/users/1/books/1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		serverTimingFilter.doFilter(request, response, (req, res) -> {
+		});
+
+		assertTrue(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER).startsWith("total;dur="));
+	}
+
+	@Test
+	void doFilter_Disabled_ShouldNotSendHeader() throws ServletException, IOException {
+		ReflectionTestUtils.setField(serverTimingFilter, "enabled", false);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1/books");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		serverTimingFilter.doFilter(request, response, (req, res) -> assertNull(RequestTimings.current()));
+
+		assertNull(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER));
+	}
+
+}
@@ -0,0 +1,200 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeremw.bookstore.api.book.Book;
+import com.jeremw.bookstore.api.book.BookController;
+import com.jeremw.bookstore.api.book.BookRepository;
+import com.jeremw.bookstore.api.book.dto.CreateBookForm;
+import com.jeremw.bookstore.api.book.dto.UpdateBookForm;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserBookCount;
+import com.jeremw.bookstore.api.user.UserBookCountRepository;
+import com.jeremw.bookstore.api.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static com.jeremw.bookstore.api.config.monitoring.SqlStatementMatchers.sqlStatements;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts the exact number of SQL statements executed by each controller method, to
+ * catch N+1 queries as mappers and endpoints grow. The second-level cache is cleared
+ * before each test, the counts are those of a cold cache. Each write also inserts its
+ * change in the outbox, a create or delete updates the book count of the user, and a
+ * delete inserts the tombstone of the book.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@SpringBootTest(properties = "sql-budget.mode=FAIL")
+class SqlStatementCountTests {
+
+	@Autowired
+	private WebApplicationContext webApplicationContext;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserBookCountRepository userBookCountRepository;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private MockMvc mvc;
+
+	private User user;
+
+	private Book book;
+
+	@BeforeEach
+	void setUp() {
+		mvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+				.apply(SecurityMockMvcConfigurers.springSecurity())
+				.build();
+
+		user = userRepository.findByUsername("sql-counter")
+				.orElseGet(() -> userRepository.save(User.builder()
+						.username("sql-counter")
+						.email("sql-counter@book-api.fr")
+						.password("password")
+						.build()));
+
+		if (!userBookCountRepository.existsById(user.getId())) {
+			userBookCountRepository.save(UserBookCount.builder().userId(user.getId()).build());
+		}
+
+		book = bookRepository.save(Book.builder()
+				.title("title")
+				.description("description")
+				.author("author")
+				.user(user)
+				.build());
+
+		entityManagerFactory.getCache().evictAll();
+	}
+
+	@Test
+	void getBooks_ShouldRunOneStatement() throws Exception {
+		mvc.perform(get("/users/" + user.getId() + "/books").with(user(user)))
+				.andExpect(status().isOk())
+				.andExpect(header().exists(BookController.TOTAL_COUNT_HEADER))
+				.andExpect(sqlStatements(1));
+	}
+
+	@Test
+	void getBooks_WithFields_ShouldRunOneStatement() throws Exception {
+		mvc.perform(get("/users/" + user.getId() + "/books").with(user(user))
+						.param("fields", "title,author"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].description").doesNotExist())
+				.andExpect(sqlStatements(1));
+	}
+
+	@Test
+	void getBooksByIds_ShouldRunOneStatement() throws Exception {
+		mvc.perform(get("/users/" + user.getId() + "/books").with(user(user))
+						.param("ids", book.getId() + ",-1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.books[0].id").value(book.getId()))
+				.andExpect(jsonPath("$.missingIds[0]").value(-1))
+				.andExpect(sqlStatements(1));
+	}
+
+	@Test
+	void getBookById_ShouldRunOneStatement() throws Exception {
+		mvc.perform(get("/users/" + user.getId() + "/books/" + book.getId()).with(user(user)))
+				.andExpect(status().isOk())
+				.andExpect(sqlStatements(1));
+	}
+
+	@Test
+	void createBook_ShouldRunFourStatements() throws Exception {
+		CreateBookForm createBookForm = CreateBookForm.builder()
+				.title("newBook")
+				.description("newDescription")
+				.author("newAuthor")
+				.build();
+
+		mvc.perform(post("/users/" + user.getId() + "/books").with(user(user))
+						.content(objectMapper.writeValueAsString(createBookForm))
+						.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isCreated())
+				.andExpect(sqlStatements(4));
+	}
+
+	@Test
+	void updateBook_ShouldRunThreeStatements() throws Exception {
+		UpdateBookForm updateBookForm = UpdateBookForm.builder().author("newAuthor").build();
+
+		mvc.perform(patch("/users/" + user.getId() + "/books/" + book.getId()).with(user(user))
+						.content(objectMapper.writeValueAsString(updateBookForm))
+						.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(sqlStatements(3));
+	}
+
+	@Test
+	void deleteBook_ShouldRunFiveStatements() throws Exception {
+		mvc.perform(delete("/users/" + user.getId() + "/books/" + book.getId()).with(user(user)))
+				.andExpect(status().isNoContent())
+				.andExpect(sqlStatements(5));
+	}
+
+	@Test
+	void countBooks_ShouldRunOneStatement() throws Exception {
+		mvc.perform(head("/users/" + user.getId() + "/books").with(user(user)))
+				.andExpect(status().isOk())
+				.andExpect(sqlStatements(1));
+	}
+
+	@Test
+	void syncBooks_ShouldRunTwoStatements() throws Exception {
+		mvc.perform(get("/users/" + user.getId() + "/books/sync").with(user(user))
+						.param("since", "0"))
+				.andExpect(status().isOk())
+				.andExpect(sqlStatements(2));
+	}
+
+	@Test
+	void getUserById_ShouldRunOneStatement() throws Exception {
+		mvc.perform(get("/users/" + user.getId()).with(user(user)))
+				.andExpect(status().isOk())
+				.andExpect(sqlStatements(1));
+	}
+
+	@Test
+	void getUserById_WithCachedUser_ShouldRunNoStatement() throws Exception {
+		mvc.perform(get("/users/" + user.getId()).with(user(user)))
+				.andExpect(status().isOk());
+
+		mvc.perform(get("/users/" + user.getId()).with(user(user)))
+				.andExpect(status().isOk())
+				.andExpect(sqlStatements(0));
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class SqlStatementCounterTests {
+
+	private static final String ENDPOINT = "GET /users/{userId}/books";
+
+	private SqlBudgetProperties properties;
+
+	private SqlStatementCounter sqlStatementCounter;
+
+	@BeforeEach
+	void setUp() {
+		properties = new SqlBudgetProperties();
+		properties.setEndpoints(Map.of(ENDPOINT, 1));
+		sqlStatementCounter = new SqlStatementCounter(properties);
+	}
+
+	@Test
+	void inspect_OutsideTrackedRequest_ShouldNotCount() {
+		sqlStatementCounter.inspect("select 1");
+
+		assertEquals(0, sqlStatementCounter.end());
+	}
+
+	@Test
+	void inspect_OverBudgetInLogMode_ShouldCountAllStatements() {
+		sqlStatementCounter.begin(ENDPOINT);
+
+		sqlStatementCounter.inspect("select 1");
+		sqlStatementCounter.inspect("select 2");
+		sqlStatementCounter.inspect("select 3");
+
+		assertEquals(3, sqlStatementCounter.end());
+	}
+
+	@Test
+	void inspect_OverBudgetInFailMode_ShouldRejectStatement() {
+		properties.setMode(SqlBudgetProperties.Mode.FAIL);
+		sqlStatementCounter.begin(ENDPOINT);
+
+		assertEquals("select 1", sqlStatementCounter.inspect("select 1"));
+		assertThrows(SqlBudgetExceededException.class, () -> sqlStatementCounter.inspect("select 2"));
+
+		sqlStatementCounter.end();
+	}
+
+	@Test
+	void inspect_UnknownEndpoint_ShouldUseDefaultBudget() {
+		properties.setMode(SqlBudgetProperties.Mode.FAIL);
+		properties.setDefaultBudget(2);
+		sqlStatementCounter.begin("GET /users");
+
+		sqlStatementCounter.inspect("select 1");
+		sqlStatementCounter.inspect("select 2");
+		assertThrows(SqlBudgetExceededException.class, () -> sqlStatementCounter.inspect("select 3"));
+
+		sqlStatementCounter.end();
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class SqlStatementInterceptorTests {
+
+	private SqlStatementCounter sqlStatementCounter;
+
+	private MeterRegistry meterRegistry;
+
+	private SqlStatementInterceptor sqlStatementInterceptor;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	void setUp() {
+		sqlStatementCounter = new SqlStatementCounter(new SqlBudgetProperties());
+		meterRegistry = new SimpleMeterRegistry();
+		sqlStatementInterceptor = new SqlStatementInterceptor(sqlStatementCounter, meterRegistry);
+		request = new MockHttpServletRequest("GET", "/users/1/books/changes/stream");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/users/{userId}/books/changes/stream");
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	void afterConcurrentHandlingStarted_ShouldStopCountingOnRequestThread() {
+		sqlStatementInterceptor.preHandle(request, response, new Object());
+		sqlStatementCounter.inspect("select 1");
+
+		sqlStatementInterceptor.afterConcurrentHandlingStarted(request, response, new Object());
+		sqlStatementCounter.inspect("select 2");
+
+		assertEquals(0, sqlStatementCounter.end());
+		assertEquals(1, request.getAttribute(SqlStatementInterceptor.STATEMENT_COUNT_ATTRIBUTE));
+	}
+
+	@Test
+	void afterCompletion_OfAsyncDispatch_ShouldPublishStatementsOfWholeRequest() {
+		sqlStatementInterceptor.preHandle(request, response, new Object());
+		sqlStatementCounter.inspect("select 1");
+		sqlStatementInterceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+		sqlStatementInterceptor.preHandle(request, response, new Object());
+		sqlStatementCounter.inspect("select 2");
+		sqlStatementInterceptor.afterCompletion(request, response, new Object(), null);
+
+		assertEquals(2, request.getAttribute(SqlStatementInterceptor.STATEMENT_COUNT_ATTRIBUTE));
+		assertEquals(1, meterRegistry.get("http.server.sql.statements").summary().count());
+		assertEquals(2, meterRegistry.get("http.server.sql.statements").summary().totalAmount());
+	}
+
+	@Test
+	void preHandle_OfMappingWithParams_ShouldUseItsOwnBudget() throws NoSuchMethodException {
+		SqlBudgetProperties properties = new SqlBudgetProperties();
+		properties.setMode(SqlBudgetProperties.Mode.FAIL);
+		properties.getEndpoints().put("GET /users/{userId}/books", 1);
+		properties.getEndpoints().put("GET /users/{userId}/books?ids", 2);
+		sqlStatementCounter = new SqlStatementCounter(properties);
+		sqlStatementInterceptor = new SqlStatementInterceptor(sqlStatementCounter, meterRegistry);
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/users/{userId}/books");
+		HandlerMethod handler = new HandlerMethod(new Handlers(), Handlers.class.getMethod("getBooksByIds"));
+
+		sqlStatementInterceptor.preHandle(request, response, handler);
+		sqlStatementCounter.inspect("select 1");
+		sqlStatementCounter.inspect("select 2");
+
+		assertThrows(SqlBudgetExceededException.class, () -> sqlStatementCounter.inspect("select 3"));
+		sqlStatementCounter.end();
+	}
+
+	static class Handlers {
+
+		@GetMapping(value = "/users/{userId}/books", params = "ids")
+		public void getBooksByIds() {
+		}
+
+	}
+
+}
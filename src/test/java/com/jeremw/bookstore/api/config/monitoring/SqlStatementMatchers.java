@@ -0,0 +1,32 @@
+package com.jeremw.bookstore.api.config.monitoring;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * MockMvc result matchers asserting the number of SQL statements executed by a request.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+public final class SqlStatementMatchers {
+
+	private SqlStatementMatchers() {
+	}
+
+	/**
+	 * Asserts the exact number of SQL statements executed by the controller method.
+	 *
+	 * @param expected The expected number of statements.
+	 * @return The result matcher.
+	 */
+	public static ResultMatcher sqlStatements(int expected) {
+		return result -> assertEquals(expected,
+				result.getRequest().getAttribute(SqlStatementInterceptor.STATEMENT_COUNT_ATTRIBUTE),
+				"Unexpected number of SQL statements for " + result.getRequest().getMethod() + " "
+						+ result.getRequest().getRequestURI());
+	}
+
+}
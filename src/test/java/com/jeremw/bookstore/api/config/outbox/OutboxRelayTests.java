@@ -0,0 +1,87 @@
+package com.jeremw.bookstore.api.config.outbox;
+
+import java.util.List;
+
+import com.jeremw.bookstore.api.book.Book;
+import com.jeremw.bookstore.api.book.BookService;
+import com.jeremw.bookstore.api.book.dto.CreateBookForm;
+import com.jeremw.bookstore.api.book.dto.UpdateBookForm;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that the book changes are recorded in the outbox and relayed to the in-process
+ * sink.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@SpringBootTest(properties = "outbox.relay.interval=PT1H")
+@RecordApplicationEvents
+class OutboxRelayTests {
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private Outbox outbox;
+
+	@Autowired
+	private OutboxRelay outboxRelay;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		user = userService.findUserByUsername("root");
+	}
+
+	@Test
+	void relay_ShouldPublishBookChangesInOrder() throws Exception {
+		Book book = bookService.createBookForUser(user.getId(), CreateBookForm.builder()
+				.title("title")
+				.description("description")
+				.author("author")
+				.build());
+		bookService.updateBookByIdAndUserId(user.getId(), book.getId(),
+				UpdateBookForm.builder().author("updated").build());
+		bookService.deleteBookForUser(user.getId(), book.getId());
+
+		outboxRelay.relay();
+
+		List<OutboxEvent.Type> types = applicationEvents.stream(OutboxEvent.class)
+				.filter(event -> book.getId().equals(event.getAggregateId()))
+				.map(OutboxEvent::getType)
+				.toList();
+		assertEquals(List.of(OutboxEvent.Type.CREATED, OutboxEvent.Type.UPDATED, OutboxEvent.Type.DELETED), types);
+		assertEquals(0, outboxEventRepository.count());
+	}
+
+	@Test
+	void record_WithoutTransaction_ShouldFail() {
+		assertThrows(IllegalTransactionStateException.class,
+				() -> outbox.record("Book", 1L, 1L, OutboxEvent.Type.CREATED));
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.jeremw.bookstore.api.config.purge;
+
+import com.jeremw.bookstore.api.book.Book;
+import com.jeremw.bookstore.api.book.BookRepository;
+import com.jeremw.bookstore.api.book.BookService;
+import com.jeremw.bookstore.api.book.dto.CreateBookForm;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserRepository;
+import com.jeremw.bookstore.api.user.UserResourceException;
+import com.jeremw.bookstore.api.user.UserService;
+import com.jeremw.bookstore.api.user.dto.CreateUserForm;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the soft delete of the books and users and their purge.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@SpringBootTest(properties = { "purge.interval=PT1H", "purge.batch-size=2", "purge.max-batches-per-run=2" })
+class SoftDeletePurgerTests {
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private BookRepository bookRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private SoftDeletePurger softDeletePurger;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void deleteBookForUser_ShouldHideBookUntilPurged() throws Exception {
+		User user = userService.findUserByUsername("root");
+		Book book = bookService.createBookForUser(user.getId(), createBookForm());
+
+		bookService.deleteBookForUser(user.getId(), book.getId());
+
+		assertTrue(bookRepository.findById(book.getId()).isEmpty());
+		assertEquals(1, countRows("select count(*) from book where id = ?", book.getId()));
+
+		softDeletePurger.purge();
+
+		assertEquals(0, countRows("select count(*) from book where id = ?", book.getId()));
+		assertEquals(0, softDeletePurger.getBookBacklog());
+	}
+
+	@Test
+	void deleteUserById_ShouldPurgeLibraryInPacedBatches() throws Exception {
+		User user = userService.createUser(CreateUserForm.builder()
+				.username("purged")
+				.email("purged@book-api.fr")
+				.password("password")
+				.build());
+		for (int i = 0; i < 5; i++) {
+			bookService.createBookForUser(user.getId(), createBookForm());
+		}
+
+		userService.deleteUserById(user.getId());
+
+		assertTrue(userRepository.findByUsername("purged").isEmpty());
+
+		softDeletePurger.purge();
+
+		assertEquals(1, countRows("select count(*) from user_app where id = ?", user.getId()));
+		assertEquals(1, softDeletePurger.getUserBacklog());
+
+		softDeletePurger.purge();
+		softDeletePurger.purge();
+
+		assertEquals(0, countRows("select count(*) from book where user_id = ?", user.getId()));
+		assertEquals(0, countRows("select count(*) from user_app where id = ?", user.getId()));
+		assertEquals(0, softDeletePurger.getUserBacklog());
+	}
+
+	@Test
+	void deleteUserById_ShouldHoldUsernameUntilPurged() throws Exception {
+		CreateUserForm createUserForm = CreateUserForm.builder()
+				.username("reused")
+				.email("reused@book-api.fr")
+				.password("password")
+				.build();
+		User user = userService.createUser(createUserForm);
+
+		userService.deleteUserById(user.getId());
+
+		assertTrue(userRepository.existsByUsername("reused"));
+		UserResourceException exception = assertThrows(UserResourceException.class,
+				() -> userService.createUser(createUserForm));
+		assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+
+		softDeletePurger.purge();
+
+		assertFalse(userRepository.existsByUsername("reused"));
+		assertEquals("reused", userService.createUser(createUserForm).getUsername());
+	}
+
+	private long countRows(String sql, Long id) {
+		return jdbcTemplate.queryForObject(sql, Long.class, id);
+	}
+
+	private static CreateBookForm createBookForm() {
+		return CreateBookForm.builder()
+				.title("title")
+				.description("description")
+				.author("author")
+				.build();
+	}
+
+}
@@ -2,8 +2,10 @@ package com.jeremw.bookstore.api.config.security;
 
 
 import java.io.IOException;
+import java.time.Duration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeremw.bookstore.api.exception.ErrorLogLimiter;
 import com.jeremw.bookstore.api.exception.ResourceExceptionDTO;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.Test;
@@ -24,7 +26,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class AccessDeniedEntryPointTests {
 	@Test
 	void handle_AccessDeniedException_ShouldReturnForbiddenResponse() throws IOException, ServletException {
-		AccessDeniedEntryPoint accessDeniedEntryPoint = new AccessDeniedEntryPoint();
+		AccessDeniedEntryPoint accessDeniedEntryPoint = new AccessDeniedEntryPoint(
+				new ErrorResponseRenderer(new ObjectMapper()), new ErrorLogLimiter(Duration.ofSeconds(10)));
 		MockHttpServletRequest request = new MockHttpServletRequest();
 		MockHttpServletResponse response = new MockHttpServletResponse();
 		AccessDeniedException accessDeniedException = new AccessDeniedException("Access Denied");
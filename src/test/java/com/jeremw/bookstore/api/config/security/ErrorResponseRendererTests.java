@@ -0,0 +1,66 @@
+package com.jeremw.bookstore.api.config.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeremw.bookstore.api.exception.ResourceExceptionDTO;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class ErrorResponseRendererTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final ErrorResponseRenderer errorResponseRenderer = new ErrorResponseRenderer(objectMapper);
+
+	@Test
+	void render_ShouldWriteSameBodyAsMapper() throws IOException {
+		String requestURL = "http://localhost/api/v1/users/1/books?q=\"é\\";
+
+		for (int i = 0; i < 2; i++) {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			errorResponseRenderer.render(response, "Unauthenticated", "You are unauthenticated.",
+					HttpStatus.UNAUTHORIZED, requestURL);
+
+			ResourceExceptionDTO expected = ResourceExceptionDTO.builder()
+					.errorCode("Unauthenticated")
+					.errorMessage("You are unauthenticated.")
+					.requestURL(requestURL)
+					.status(HttpStatus.UNAUTHORIZED)
+					.build();
+			assertEquals(HttpStatus.UNAUTHORIZED.value(), response.getStatus());
+			assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+			assertEquals(objectMapper.writeValueAsString(expected), response.getContentAsString(StandardCharsets.UTF_8));
+			assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+		}
+	}
+
+	@Test
+	void render_BeyondMaxTemplates_ShouldStillWriteBody() throws IOException {
+		for (int i = 0; i <= ErrorResponseRenderer.MAX_TEMPLATES; i++) {
+			errorResponseRenderer.render(new MockHttpServletResponse(), "Error" + i, "Message", HttpStatus.NOT_FOUND,
+					"URI");
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		errorResponseRenderer.render(response, "Last", "Message", HttpStatus.NOT_FOUND, "URI");
+
+		ResourceExceptionDTO exceptionDTO = objectMapper.readValue(response.getContentAsString(),
+				ResourceExceptionDTO.class);
+		assertEquals("Last", exceptionDTO.getErrorCode());
+		assertEquals("URI", exceptionDTO.getRequestURL());
+	}
+
+}
@@ -2,7 +2,6 @@ package com.jeremw.bookstore.api.config.security;
 
 import java.io.IOException;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jeremw.bookstore.api.auth.JwtService;
 import com.jeremw.bookstore.api.user.User;
 import com.jeremw.bookstore.api.user.UserResourceException;
@@ -11,7 +10,6 @@ import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -38,7 +36,7 @@ import static org.mockito.Mockito.when;
 class JwtAuthFilterTests {
 
 	@Mock
-	private ObjectMapper objectMapper;
+	private ErrorResponseRenderer errorResponseRenderer;
 
 	@Mock
 	private MockHttpServletRequest request;
@@ -89,8 +87,8 @@ class JwtAuthFilterTests {
 
 		jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
-		verify(response, times(1)).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-		verify(response, times(1)).setContentType("application/json");
+		verify(errorResponseRenderer, times(1)).render(response, "IncorrectTokenSignature",
+				"Token signature is incorrect, the token is not valid.", HttpStatus.UNAUTHORIZED, "URI");
 	}
 
 	@Test
@@ -102,8 +100,8 @@ class JwtAuthFilterTests {
 
 		jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
-		verify(response, times(1)).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-		verify(response, times(1)).setContentType("application/json");
+		verify(errorResponseRenderer, times(1)).render(response, "ExpiredJwtException",
+				"Token expired, the token is not valid.", HttpStatus.UNAUTHORIZED, "URI");
 	}
 
 	@Test
@@ -120,8 +118,8 @@ class JwtAuthFilterTests {
 
 		jwtAuthFilter.doFilterInternal(request, response, filterChain);
 
-		verify(response, times(1)).setStatus(HttpServletResponse.SC_NOT_FOUND);
-		verify(response, times(1)).setContentType("application/json");
+		verify(errorResponseRenderer, times(1)).render(response, "User not found", "User not found",
+				HttpStatus.NOT_FOUND, "URI");
 	}
 
 }
@@ -1,8 +1,10 @@
 package com.jeremw.bookstore.api.config.security;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeremw.bookstore.api.exception.ErrorLogLimiter;
 import com.jeremw.bookstore.api.exception.ResourceExceptionDTO;
 import org.junit.jupiter.api.Test;
 
@@ -22,7 +24,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class UnauthenticatedEntryPointTests {
 	@Test
 	void commence_AuthenticationException_ShouldReturnUnauthorizedResponse() throws IOException {
-		UnauthenticatedEntryPoint unauthenticatedEntryPoint = new UnauthenticatedEntryPoint();
+		ErrorLogLimiter errorLogLimiter = new ErrorLogLimiter(Duration.ofHours(1));
+		UnauthenticatedEntryPoint unauthenticatedEntryPoint = new UnauthenticatedEntryPoint(
+				new ErrorResponseRenderer(new ObjectMapper()), errorLogLimiter);
 		MockHttpServletRequest request = new MockHttpServletRequest();
 		MockHttpServletResponse response = new MockHttpServletResponse();
 		AuthenticationException authException = new AuthenticationException("Authentication Failed") {
@@ -41,6 +45,7 @@ class UnauthenticatedEntryPointTests {
 				exceptionDTO.getErrorMessage());
 		assertEquals(request.getRequestURL().toString(), exceptionDTO.getRequestURL());
 		assertEquals(HttpStatus.UNAUTHORIZED, exceptionDTO.getStatus());
+		assertEquals(ErrorLogLimiter.SUPPRESSED, errorLogLimiter.acquire("Unauthenticated"));
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import com.jeremw.bookstore.api.book.Book;
+import com.jeremw.bookstore.api.book.BookField;
+import com.jeremw.bookstore.api.book.BookResourceException;
+import com.jeremw.bookstore.api.book.BookRowHandler;
+import com.jeremw.bookstore.api.book.BookService;
+import com.jeremw.bookstore.api.book.dto.BookDto;
+import com.jeremw.bookstore.api.book.dto.CreateBookForm;
+import com.jeremw.bookstore.api.book.dto.UpdateBookForm;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the book operations against three local H2 shards.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+@SpringBootTest(properties = {
+		"datasource.shards.enabled=true",
+		"datasource.shards.nodes[0].url=jdbc:h2:mem:sharding-tests-shard-0;DB_CLOSE_DELAY=-1",
+		"datasource.shards.nodes[0].username=sa",
+		"datasource.shards.nodes[1].url=jdbc:h2:mem:sharding-tests-shard-1;DB_CLOSE_DELAY=-1",
+		"datasource.shards.nodes[1].username=sa",
+		"datasource.shards.nodes[2].url=jdbc:h2:mem:sharding-tests-shard-2;DB_CLOSE_DELAY=-1",
+		"datasource.shards.nodes[2].username=sa" })
+class ShardingTests {
+
+	@Autowired
+	private ShardDataSources shardDataSources;
+
+	@Autowired
+	private ShardRouter shardRouter;
+
+	@Autowired
+	private ShardRebalancer shardRebalancer;
+
+	@Autowired
+	private BookService bookService;
+
+	@Autowired
+	private UserService userService;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		user = userService.findUserByUsername("root");
+	}
+
+	@Test
+	void createBookForUser_ShouldStoreBookOnUserShardOnly() throws Exception {
+		int shard = shardRouter.shardFor(user.getId());
+
+		Book book = bookService.createBookForUser(user.getId(), createBookForm("title"));
+
+		assertEquals(shard, ShardAwareIdGenerator.shardOf(book.getId()));
+		for (int i = 0; i < shardDataSources.size(); i++) {
+			assertEquals(i == shard ? 1 : 0, countBook(i, book.getId()));
+		}
+	}
+
+	@Test
+	void bookOperations_ShouldRunOnUserShard() throws Exception {
+		Book book = bookService.createBookForUser(user.getId(), createBookForm("title"));
+
+		bookService.updateBookByIdAndUserId(user.getId(), book.getId(),
+				UpdateBookForm.builder().author("updated").build());
+
+		assertEquals("updated", bookService.getBookByIdAndUserId(user.getId(), book.getId()).getAuthor());
+		assertTrue(bookIds(user).contains(book.getId()));
+
+		bookService.deleteBookForUser(user.getId(), book.getId());
+
+		assertThrows(BookResourceException.class, () -> bookService.getBookByIdAndUserId(user.getId(), book.getId()));
+	}
+
+	@Test
+	void rebalance_ShouldMoveMisplacedBooks() throws IOException {
+		int shard = shardRouter.shardFor(user.getId());
+		int wrongShard = (shard + 1) % shardDataSources.size();
+		long id = (1_000_000L << ShardAwareIdGenerator.SHARD_BITS) | wrongShard;
+		jdbcTemplate(wrongShard).update(
+				"insert into book (id, user_id, title, description, author) values (?, ?, 'title', 'description', 'author')",
+				id, user.getId());
+
+		List<ShardStatus> statuses = shardRebalancer.rebalance();
+
+		assertEquals(1, statuses.get(wrongShard).getMovedBooks());
+		assertEquals(0, countBook(wrongShard, id));
+		assertEquals(1, countBook(shard, id));
+		assertTrue(bookIds(user).contains(id));
+		assertTrue(shardRebalancer.status().stream().allMatch(status -> status.getMisplacedUsers() == 0));
+	}
+
+	@Test
+	void migrate_ShouldOnlyCreateBookTablesOnShards() {
+		List<String> tables = jdbcTemplate(0).queryForList("""
+				select lower(table_name) from information_schema.tables
+				where table_schema = 'PUBLIC' and table_type = 'BASE TABLE' and table_name <> 'flyway_schema_history'
+				order by 1
+				""", String.class);
+
+		assertEquals(List.of("book", "book_tombstone", "outbox_event"), tables);
+	}
+
+	private List<Long> bookIds(User user) throws IOException {
+		List<Long> bookIds = new ArrayList<>();
+		bookService.forEachBookByUserId(user.getId(), EnumSet.noneOf(BookField.class), new BookRowHandler() {
+
+			@Override
+			public void begin(long total) {
+			}
+
+			@Override
+			public void handle(BookDto book) {
+				bookIds.add(book.getId());
+			}
+
+		});
+		return bookIds;
+	}
+
+	private long countBook(int shard, long id) {
+		return jdbcTemplate(shard).queryForObject("select count(*) from book where id = ?", Long.class, id);
+	}
+
+	private JdbcTemplate jdbcTemplate(int shard) {
+		return new JdbcTemplate(shardDataSources.get(shard));
+	}
+
+	private static CreateBookForm createBookForm(String title) {
+		return CreateBookForm.builder().title(title).description("description").author("author").build();
+	}
+
+}
@@ -0,0 +1,83 @@
+package com.jeremw.bookstore.api.config.shard;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 18/10/2026
+ */
+class TimeOrderedAllocatorTests {
+
+	private final AtomicLong clock = new AtomicLong(TimeOrderedAllocator.EPOCH.toEpochMilli() + 1_000);
+
+	@Test
+	void allocate_ShouldEncodeTimestampAndNode() {
+		TimeOrderedAllocator allocator = allocator(3, -1);
+
+		long value = allocator.allocate(0, null);
+
+		assertEquals(TimeOrderedAllocator.EPOCH.plusMillis(1_000), TimeOrderedAllocator.timestampOf(value));
+		assertEquals(3, (value >> TimeOrderedAllocator.COUNTER_BITS) & (TimeOrderedAllocator.MAX_NODES - 1));
+	}
+
+	@Test
+	void allocate_SameMillisecond_ShouldIncrease() {
+		TimeOrderedAllocator allocator = allocator(0, -1);
+
+		long previous = allocator.allocate(0, null);
+		for (int i = 0; i < 1_000; i++) {
+			long value = allocator.allocate(0, null);
+			assertTrue(value > previous);
+			previous = value;
+		}
+	}
+
+	@Test
+	void allocate_ClockGoingBackwards_ShouldKeepIncreasing() {
+		TimeOrderedAllocator allocator = allocator(0, -1);
+		long previous = allocator.allocate(0, null);
+
+		clock.addAndGet(-500);
+
+		assertTrue(allocator.allocate(0, null) > previous);
+	}
+
+	@Test
+	void allocate_AfterRestart_ShouldCarryOnAfterLastStoredValue() {
+		TimeOrderedAllocator allocator = allocator(0, -1);
+		long last = 0;
+		for (int i = 0; i < 1_000; i++) {
+			last = allocator.allocate(0, null);
+		}
+
+		clock.addAndGet(-500);
+		TimeOrderedAllocator restarted = allocator(0, last);
+
+		assertTrue(restarted.allocate(0, null) > last);
+	}
+
+	@Test
+	void allocate_ShouldKeepOneCounterPerShard() {
+		TimeOrderedAllocator allocator = allocator(0, -1);
+
+		assertEquals(allocator.allocate(0, null), allocator.allocate(1, null));
+	}
+
+	@Test
+	void constructor_NodeIdOutOfRange_ShouldFail() {
+		assertThrows(IllegalArgumentException.class,
+				() -> allocator(TimeOrderedAllocator.MAX_NODES, -1));
+	}
+
+	private TimeOrderedAllocator allocator(int nodeId, long lastValue) {
+		return new TimeOrderedAllocator(nodeId, clock::get, session -> lastValue);
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.jeremw.bookstore.api.config.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jeremw.bookstore.api.book.dto.CreateBookForm;
+import com.jeremw.bookstore.api.user.User;
+import com.jeremw.bookstore.api.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the negotiation of the binary formats of the API payloads.
+ *
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+@SpringBootTest
+class BinaryFormatTests {
+
+	private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+	@Autowired
+	private WebApplicationContext webApplicationContext;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private MockMvc mvc;
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		mvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+				.apply(SecurityMockMvcConfigurers.springSecurity())
+				.build();
+
+		user = userRepository.findByUsername("binary-format")
+				.orElseGet(() -> userRepository.save(User.builder()
+						.username("binary-format")
+						.email("binary-format@book-api.fr")
+						.password("password")
+						.build()));
+	}
+
+	@Test
+	void createBook_WithCborBody_ShouldAnswerInCbor() throws Exception {
+		CBORMapper cborMapper = new CBORMapper();
+
+		byte[] body = mvc.perform(post("/users/" + user.getId() + "/books").with(user(user))
+						.content(cborMapper.writeValueAsBytes(createBookForm()))
+						.contentType(MediaType.APPLICATION_CBOR)
+						.accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isCreated())
+				.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		assertEquals("title", cborMapper.readTree(body).get("title").asText());
+	}
+
+	@Test
+	void getBooks_WithSmileAccept_ShouldAnswerInSmile() throws Exception {
+		createBook();
+
+		byte[] body = mvc.perform(get("/users/" + user.getId() + "/books").with(user(user))
+						.accept(APPLICATION_SMILE))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(APPLICATION_SMILE))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		JsonNode books = new SmileMapper().readTree(body);
+		assertEquals("title", books.get(0).get("title").asText());
+	}
+
+	@Test
+	void getBooks_WithoutAccept_ShouldAnswerInJson() throws Exception {
+		createBook();
+
+		mvc.perform(get("/users/" + user.getId() + "/books").with(user(user)))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON));
+	}
+
+	private void createBook() throws Exception {
+		mvc.perform(post("/users/" + user.getId() + "/books").with(user(user))
+						.content(objectMapper.writeValueAsString(createBookForm()))
+						.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isCreated());
+	}
+
+	private static CreateBookForm createBookForm() {
+		return CreateBookForm.builder()
+				.title("title")
+				.description("description")
+				.author("author")
+				.build();
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.jeremw.bookstore.api.config.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class JsonStreamHttpMessageConverterTests {
+
+	private final JsonStreamHttpMessageConverter converter = new JsonStreamHttpMessageConverter(
+			Map.of(MediaType.APPLICATION_JSON, new ObjectMapper()));
+
+	@Test
+	void write_ShouldWriteHeadersThenArray() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		JsonStream<String> jsonStream = writer -> {
+			writer.header("X-Total-Count", "2");
+			writer.write("a");
+			writer.write("b");
+		};
+
+		converter.write(jsonStream, MediaType.APPLICATION_JSON, outputMessage);
+
+		assertEquals("2", outputMessage.getHeaders().getFirst("X-Total-Count"));
+		assertEquals("[\"a\",\"b\"]", outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void write_WithoutElements_ShouldWriteEmptyArray() throws Exception {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+		converter.write((JsonStream<String>) writer -> {
+		}, MediaType.APPLICATION_JSON, outputMessage);
+
+		assertEquals("[]", outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void write_WithHeaderAfterElement_ShouldFail() {
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		JsonStream<String> jsonStream = writer -> {
+			writer.write("a");
+			writer.header("X-Total-Count", "1");
+		};
+
+		assertThrows(IllegalStateException.class,
+				() -> converter.write(jsonStream, MediaType.APPLICATION_JSON, outputMessage));
+	}
+
+}
@@ -0,0 +1,215 @@
+package com.jeremw.bookstore.api.config.web;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class ResponseCompressionFilterTests {
+
+	private static final String BODY = "[" + "{\"description\":\"a long description\"},".repeat(100) + "{}]";
+
+	private Cache<String, byte[]> compressedBodies;
+
+	private ResponseCompressionFilter responseCompressionFilter;
+
+	@BeforeEach
+	void setUp() {
+		compressedBodies = Caffeine.newBuilder().build();
+		responseCompressionFilter = new ResponseCompressionFilter(
+				List.of(MediaType.APPLICATION_JSON, MediaType.parseMediaType("application/*+json")), 2048,
+				compressedBodies);
+	}
+
+	@Test
+	void doFilter_LargeJsonAcceptingGzip_ShouldSendCompressedBody() throws ServletException, IOException {
+		MockHttpServletResponse response = filter(gzipRequest(), jsonChain(BODY));
+
+		assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+		assertNotNull(response.getHeader(HttpHeaders.ETAG));
+		assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+		assertEquals(BODY, gunzip(response.getContentAsByteArray()));
+	}
+
+	@Test
+	void doFilter_SamePayloadTwice_ShouldCompressOnce() throws ServletException, IOException {
+		MockHttpServletResponse first = filter(gzipRequest(), jsonChain(BODY));
+		MockHttpServletResponse second = filter(gzipRequest(), jsonChain(BODY));
+
+		assertEquals(1, compressedBodies.estimatedSize());
+		assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+	}
+
+	@Test
+	void doFilter_WithoutAcceptEncoding_ShouldSendIdentityBody() throws ServletException, IOException {
+		MockHttpServletResponse response = filter(new MockHttpServletRequest("GET", "/users/1/books"),
+				jsonChain(BODY));
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(BODY, response.getContentAsString());
+	}
+
+	@Test
+	void doFilter_GzipRefused_ShouldSendIdentityBody() throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1/books");
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, br");
+
+		MockHttpServletResponse response = filter(request, jsonChain(BODY));
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	@Test
+	void doFilter_SmallJson_ShouldSendIdentityBodyWithEtag() throws ServletException, IOException {
+		MockHttpServletResponse response = filter(gzipRequest(), jsonChain("[]"));
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertNotNull(response.getHeader(HttpHeaders.ETAG));
+		assertEquals("[]", response.getContentAsString());
+	}
+
+	@Test
+	void doFilter_MatchingIfNoneMatch_ShouldSendNotModified() throws ServletException, IOException {
+		MockHttpServletResponse first = filter(gzipRequest(), jsonChain(BODY));
+
+		MockHttpServletRequest request = gzipRequest();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+		MockHttpServletResponse response = filter(request, jsonChain(BODY));
+
+		assertEquals(304, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void doFilter_ErrorResponse_ShouldSendIdentityBody() throws ServletException, IOException {
+		MockHttpServletResponse response = filter(gzipRequest(), (req, res) -> {
+			((HttpServletResponse) res).setStatus(404);
+			res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+		});
+
+		assertEquals(404, response.getStatus());
+		assertNull(response.getHeader(HttpHeaders.ETAG));
+		assertEquals(BODY, response.getContentAsString());
+	}
+
+	@Test
+	void doFilter_EventStream_ShouldWriteThrough() throws ServletException, IOException {
+		AtomicInteger writtenBeforeEnd = new AtomicInteger();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		responseCompressionFilter.doFilter(gzipRequest(), response, (req, res) -> {
+			res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+			res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+			writtenBeforeEnd.set(response.getContentAsByteArray().length);
+		});
+
+		assertEquals(BODY.length(), writtenBeforeEnd.get());
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	@Test
+	void doFilter_StreamedJsonAcceptingGzip_ShouldCompressWithoutBuffering() throws ServletException, IOException {
+		AtomicInteger writtenBeforeEnd = new AtomicInteger();
+		MockHttpServletRequest request = gzipRequest();
+		request.setAttribute(ResponseCompressionFilter.STREAMED_ATTRIBUTE, Boolean.TRUE);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			body.append("{\"id\":").append(Long.toHexString(i * 0x9E3779B97F4A7C15L)).append("},");
+		}
+
+		responseCompressionFilter.doFilter(request, response, (req, res) -> {
+			res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			res.getOutputStream().write(body.toString().getBytes(StandardCharsets.UTF_8));
+			writtenBeforeEnd.set(response.getContentAsByteArray().length);
+		});
+
+		assertTrue(writtenBeforeEnd.get() > 8192);
+		assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+		assertNull(response.getHeader(HttpHeaders.ETAG));
+		assertEquals(body.toString(), gunzip(response.getContentAsByteArray()));
+		assertEquals(0, compressedBodies.estimatedSize());
+	}
+
+	@Test
+	void doFilter_StreamedJsonWithoutAcceptEncoding_ShouldWriteThrough() throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1/books");
+		request.setAttribute(ResponseCompressionFilter.STREAMED_ATTRIBUTE, Boolean.TRUE);
+
+		MockHttpServletResponse response = filter(request, jsonChain(BODY));
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertNull(response.getHeader(HttpHeaders.ETAG));
+		assertEquals(BODY.length(), response.getContentLength());
+		assertEquals(BODY, response.getContentAsString());
+	}
+
+	@Test
+	void doFilter_Post_ShouldWriteThrough() throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/1/books");
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+		MockHttpServletResponse response = filter(request, jsonChain(BODY));
+
+		assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(BODY, response.getContentAsString());
+	}
+
+	private MockHttpServletResponse filter(MockHttpServletRequest request, FilterChain filterChain)
+			throws ServletException, IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		responseCompressionFilter.doFilter(request, response, filterChain);
+		return response;
+	}
+
+	private static MockHttpServletRequest gzipRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1/books");
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+		return request;
+	}
+
+	private static FilterChain jsonChain(String body) {
+		return (req, res) -> {
+			res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			res.setContentLength(body.length());
+			res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+		};
+	}
+
+	private static String gunzip(byte[] content) throws IOException {
+		try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+			return new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
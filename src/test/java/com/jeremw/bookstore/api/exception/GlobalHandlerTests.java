@@ -1,5 +1,6 @@
 package com.jeremw.bookstore.api.exception;
 
+import java.time.Duration;
 import java.util.List;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.http.HttpStatus;
@@ -33,6 +35,9 @@ class GlobalHandlerTests {
 	@Mock
 	private HttpServletRequest request;
 
+	@Spy
+	private ErrorLogLimiter errorLogLimiter = new ErrorLogLimiter(Duration.ofSeconds(10));
+
 	@InjectMocks
 	private GlobalHandler globalExceptionHandler;
 
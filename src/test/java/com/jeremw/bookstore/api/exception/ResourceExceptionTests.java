@@ -0,0 +1,51 @@
+package com.jeremw.bookstore.api.exception;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Jérémy Woirhaye
+ * @version 1.0
+ * @since 19/10/2026
+ */
+class ResourceExceptionTests {
+
+	@Test
+	void clientError_ShouldHaveNoStackTrace() {
+		ResourceException exception = new ResourceException("NotFound", "Not found", HttpStatus.NOT_FOUND);
+
+		assertEquals(0, exception.getStackTrace().length);
+	}
+
+	@Test
+	void serverError_ShouldKeepStackTraceAndCause() {
+		IllegalStateException cause = new IllegalStateException("database down");
+
+		ResourceException exception = new ResourceException("CreateError", "Error", HttpStatus.INTERNAL_SERVER_ERROR,
+				cause);
+
+		assertTrue(exception.getStackTrace().length > 0);
+		assertSame(cause, exception.getCause());
+	}
+
+	@Test
+	void errorLogLimiter_RepeatedErrorCode_ShouldLogOncePerInterval() {
+		ErrorLogLimiter errorLogLimiter = new ErrorLogLimiter(Duration.ofHours(1));
+		Duration interval = Duration.ofHours(1);
+
+		assertEquals(0, errorLogLimiter.acquire("BookNotFound", interval));
+		assertEquals(ErrorLogLimiter.SUPPRESSED, errorLogLimiter.acquire("BookNotFound", interval));
+		assertEquals(ErrorLogLimiter.SUPPRESSED, errorLogLimiter.acquire("BookNotFound", interval));
+		assertEquals(0, errorLogLimiter.acquire("UserNotFound", interval));
+
+		assertEquals(2, errorLogLimiter.acquire("BookNotFound", Duration.ZERO));
+	}
+
+}
@@ -27,6 +27,7 @@ import org.springframework.web.context.WebApplicationContext;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -157,6 +158,22 @@ class UserControllerTests {
 
 	}
 
+	@WithMockUser
+	@Test
+	void createUser_WithTooLongUsername_ShouldReturnBadRequest() throws Exception {
+		CreateUserForm createUserForm = CreateUserForm.builder()
+				.username("u".repeat(51))
+				.email("firstname.lastname@domain.fr")
+				.password("password")
+				.build();
+
+		mvc.perform(post(BASE_PATH).content(new ObjectMapper().writeValueAsString(createUserForm))
+						.contentType(MediaType.APPLICATION_JSON))
+				.andExpect(status().isBadRequest());
+
+		verify(userService, never()).createUser(createUserForm);
+	}
+
 	@WithMockUser
 	@Test
 	void updateUser() throws Exception {
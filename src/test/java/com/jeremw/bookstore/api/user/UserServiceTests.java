@@ -15,6 +15,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,6 +42,9 @@ class UserServiceTests {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private UserBookCountRepository userBookCountRepository;
+
 	@Test
 	void getAllUsers() {
 		User user1 = User.builder().id(1L).username("username1").email("email1").password("password1").build();
@@ -134,7 +138,7 @@ class UserServiceTests {
 				.password(createUserForm.getPassword())
 				.build();
 
-		when(userRepository.save(userToSave)).thenReturn(user);
+		when(userRepository.saveAndFlush(userToSave)).thenReturn(user);
 		when(passwordEncoder.encode(createUserForm.getPassword())).thenReturn(createUserForm.getPassword());
 
 		User userCreated = userService.createUser(createUserForm);
@@ -142,8 +146,9 @@ class UserServiceTests {
 		assertNotNull(userCreated);
 		assertEquals(user, userCreated);
 
-		verify(userRepository, times(1)).save(userToSave);
+		verify(userRepository, times(1)).saveAndFlush(userToSave);
 		verify(passwordEncoder, times(1)).encode(createUserForm.getPassword());
+		verify(userBookCountRepository, times(1)).save(UserBookCount.builder().userId(user.getId()).bookCount(0).build());
 	}
 
 	@Test
@@ -167,12 +172,12 @@ class UserServiceTests {
 				.password(createUserForm.getPassword())
 				.build();
 
-		when(userRepository.save(userToSave)).thenThrow(DataIntegrityViolationException.class);
+		when(userRepository.saveAndFlush(userToSave)).thenThrow(DataIntegrityViolationException.class);
 		when(passwordEncoder.encode(createUserForm.getPassword())).thenReturn(createUserForm.getPassword());
 
 		assertThrows(UserResourceException.class, () -> userService.createUser(createUserForm));
 
-		verify(userRepository, times(1)).save(userToSave);
+		verify(userRepository, times(1)).saveAndFlush(userToSave);
 		verify(passwordEncoder, times(1)).encode(createUserForm.getPassword());
 	}
 
@@ -198,12 +203,14 @@ class UserServiceTests {
 				.password(createUserForm.getPassword())
 				.build();
 
-		when(userRepository.save(userToSave)).thenThrow(IllegalArgumentException.class);
+		when(userRepository.saveAndFlush(userToSave)).thenThrow(IllegalArgumentException.class);
 		when(passwordEncoder.encode(createUserForm.getPassword())).thenReturn(createUserForm.getPassword());
 
-		assertThrows(UserResourceException.class, () -> userService.createUser(createUserForm));
+		UserResourceException exception = assertThrows(UserResourceException.class,
+				() -> userService.createUser(createUserForm));
+		assertInstanceOf(IllegalArgumentException.class, exception.getCause());
 
-		verify(userRepository, times(1)).save(userToSave);
+		verify(userRepository, times(1)).saveAndFlush(userToSave);
 		verify(passwordEncoder, times(1)).encode(createUserForm.getPassword());
 	}
 
@@ -342,4 +349,27 @@ class UserServiceTests {
 		verify(userRepository, times(1)).findById(userToDelete.getId());
 	}
 
-}
\ No newline at end of file
+	@Test
+	void getBookCount() throws UserResourceException {
+		when(userBookCountRepository.findById(1L)).thenReturn(Optional.of(UserBookCount.builder().userId(1L).bookCount(3).build()));
+
+		assertEquals(3, userService.getBookCount(1L));
+	}
+
+	@Test
+	void getBookCountNotFoundThrowException() {
+		when(userBookCountRepository.findById(1L)).thenReturn(Optional.empty());
+
+		assertThrows(UserResourceException.class, () -> userService.getBookCount(1L));
+	}
+
+	@Test
+	void addToBookCountWithoutCountCreatesIt() {
+		when(userBookCountRepository.addToBookCount(1L, 1)).thenReturn(0);
+
+		userService.addToBookCount(1L, 1);
+
+		verify(userBookCountRepository, times(1)).save(UserBookCount.builder().userId(1L).bookCount(1).build());
+	}
+
+}